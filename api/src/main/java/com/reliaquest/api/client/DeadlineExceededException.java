@@ -0,0 +1,15 @@
+package com.reliaquest.api.client;
+
+/**
+ * The request's deadline ran out, or too little of it was left to make another upstream attempt worthwhile.
+ */
+public class DeadlineExceededException extends RuntimeException {
+
+    public DeadlineExceededException(String message) {
+        super(message);
+    }
+
+    public DeadlineExceededException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -1,101 +1,334 @@
 package com.reliaquest.api.client;
 
+import com.reliaquest.api.jfr.UpstreamBackoffEvent;
+import com.reliaquest.api.jfr.UpstreamCallEvent;
 import com.reliaquest.api.model.Employee;
 import com.reliaquest.api.model.EmployeeInput;
 import com.reliaquest.api.model.Response;
+import com.reliaquest.api.web.Deadline;
+import com.reliaquest.api.web.RequestTiming;
 import java.time.Duration;
 import java.util.List;
-import lombok.extern.slf4j.Slf4j;
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+import java.util.function.Predicate;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.ParameterizedTypeReference;
-import org.springframework.http.HttpMethod;
+import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.ClientResponse;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
 import reactor.util.retry.Retry;
 
 @Component
-@Slf4j
 public class EmployeeClient {
 
-    private final WebClient webClient;
+    private static final int MAX_RETRIES = 5;
+    private static final Duration BACKOFF = Duration.ofSeconds(2);
 
-    public EmployeeClient(WebClient.Builder webClientBuilder, @Value("${api.base-url}") String apiBaseUrl) {
-        this.webClient = webClientBuilder.baseUrl(apiBaseUrl).build();
+    private final List<WebClient> shards;
+    private final ShardRouter shardRouter;
+    private final EmployeeResponseReader responseReader;
+    private final HedgingPolicy hedgingPolicy;
+    private final UpstreamScheduler upstreamScheduler;
+    private final long minAttemptNanos;
+    private final int searchMaxResults;
+
+    public EmployeeClient(
+            WebClient.Builder webClientBuilder,
+            EmployeeResponseReader responseReader,
+            HedgingPolicy hedgingPolicy,
+            UpstreamScheduler upstreamScheduler,
+            @Value("${api.shards.urls:${api.base-url}}") List<String> shardUrls,
+            @Value("${api.shards.placement:round-robin}") String placement,
+            @Value("${api.deadline.min-attempt:100ms}") Duration minAttempt,
+            @Value("${api.search.max-results:1000}") int searchMaxResults) {
+        this.shards = shardUrls.stream()
+                .map(url -> webClientBuilder.clone().baseUrl(url.trim()).build())
+                .toList();
+        this.shardRouter = new ShardRouter(
+                shards.size(),
+                ShardRouter.Placement.valueOf(placement.trim().replace('-', '_').toUpperCase(Locale.ROOT)));
+        this.responseReader = responseReader;
+        this.hedgingPolicy = hedgingPolicy;
+        this.upstreamScheduler = upstreamScheduler;
+        this.minAttemptNanos = minAttempt.toNanos();
+        this.searchMaxResults = searchMaxResults;
     }
 
     private <R> Mono<? extends R> validateAndExtractEmployee(Response<R> employeeResponse) {
         if (employeeResponse.status().equals(Response.Status.ERROR)) {
-            log.error("API returned error: {} ", employeeResponse);
             return Mono.error(new RuntimeException("API error: " + employeeResponse));
         }
         return Mono.just(employeeResponse.data());
     }
 
+    /**
+     * Always yields an exception, also for bodiless responses such as 429, so the status reaches the retry policy.
+     * Nothing is logged here: the failed request shows up in the {@link com.reliaquest.api.web.AccessLog}.
+     */
     private Mono<? extends Throwable> handleErrorResponse(ClientResponse response) {
-        return response.bodyToMono(String.class).flatMap(errorBody -> {
-            log.error("Error response from server: {}", errorBody);
-            return Mono.error(new RuntimeException("Server error: " + errorBody));
-        });
+        return response.createException();
     }
 
-    private Retry retryWhen() {
-        return Retry.backoff(5, Duration.ofSeconds(2))
-                .filter(throwable -> throwable instanceof WebClientResponseException
-                        && ((WebClientResponseException) throwable).getStatusCode() == HttpStatus.TOO_MANY_REQUESTS);
+    /**
+     * Exponential backoff with jitter on 429, as long as the deadline leaves room for the pause plus another attempt.
+     */
+    private Retry retryWhen(String operation, int shard, RequestTiming timing, Deadline deadline) {
+        return Retry.from(signals -> signals.concatMap(signal -> {
+            Throwable failure = signal.failure();
+            long attempt = signal.totalRetries();
+            if (!(failure instanceof WebClientResponseException responseException
+                    && responseException.getStatusCode() == HttpStatus.TOO_MANY_REQUESTS)) {
+                return Mono.error(failure);
+            }
+            if (attempt >= MAX_RETRIES) {
+                return Mono.error(
+                        Exceptions.retryExhausted("Retries exhausted: " + attempt + "/" + MAX_RETRIES, failure));
+            }
+            long backoff = BACKOFF.toNanos() << attempt;
+            long delay = ThreadLocalRandom.current().nextLong(backoff / 2, backoff + backoff / 2);
+            if (deadline.remainingNanos() - delay < minAttemptNanos) {
+                return Mono.error(new DeadlineExceededException(
+                        "Deadline leaves no room to retry after " + (attempt + 1) + " throttled attempts", failure));
+            }
+            long backoffStart = System.nanoTime();
+            UpstreamBackoffEvent event = new UpstreamBackoffEvent();
+            event.begin();
+            event.operation = operation;
+            event.shard = shard;
+            event.attempt = attempt + 1;
+            hedgingPolicy.onThrottled();
+            return Mono.delay(Duration.ofNanos(delay)).doOnNext(ignored -> {
+                timing.add(RequestTiming.Phase.RETRY, System.nanoTime() - backoffStart);
+                event.commit();
+            });
+        }));
     }
 
+    /**
+     * Sends the request, decodes the envelope and retries on 429, recording upstream, decode and backoff time against
+     * the {@link RequestTiming} found in the subscriber context. Each attempt times out when the {@link Deadline} in
+     * the subscriber context runs out, including the time it waits in its {@link UpstreamScheduler} lane. Every attempt
+     * is recorded as an {@link UpstreamCallEvent}.
+     */
+    private <T> Mono<Response<T>> exchange(
+            String operation,
+            UpstreamScheduler.Lane lane,
+            int shard,
+            WebClient.RequestHeadersSpec<?> request,
+            Predicate<HttpStatusCode> errorStatus,
+            Function<DataBuffer, Response<T>> decoder) {
+        return Mono.deferContextual(context -> {
+            RequestTiming timing = RequestTiming.from(context);
+            Deadline deadline = Deadline.from(context);
+            return Mono.defer(() -> {
+                        long remaining = deadline.remainingNanos();
+                        if (remaining <= 0) {
+                            return Mono.error(
+                                    new DeadlineExceededException("Deadline expired before calling upstream"));
+                        }
+                        Mono<DataBuffer> attempt = upstreamScheduler.schedule(lane, Mono.defer(() -> {
+                            long start = System.nanoTime();
+                            UpstreamCallEvent event = new UpstreamCallEvent();
+                            event.begin();
+                            event.operation = operation;
+                            event.shard = shard;
+                            Runnable recordUpstream =
+                                    () -> timing.add(RequestTiming.Phase.UPSTREAM, System.nanoTime() - start);
+                            return request.retrieve()
+                                    .onStatus(
+                                            code -> {
+                                                event.status = code.value();
+                                                return errorStatus.test(code);
+                                            },
+                                            this::handleErrorResponse)
+                                    .bodyToMono(DataBuffer.class)
+                                    .doOnNext(buffer -> {
+                                        event.bytes = buffer.readableByteCount();
+                                        if (lane == UpstreamScheduler.Lane.POINT_READ) {
+                                            hedgingPolicy.onAnswered(System.nanoTime() - start);
+                                        }
+                                    })
+                                    .doOnTerminate(recordUpstream)
+                                    .doOnCancel(recordUpstream)
+                                    .doFinally(signal -> event.commit());
+                        }));
+                        if (deadline.isBounded()) {
+                            attempt = attempt.timeout(
+                                    Duration.ofNanos(remaining),
+                                    Mono.error(() ->
+                                            new DeadlineExceededException("Deadline expired waiting for upstream")));
+                        }
+                        return attempt;
+                    })
+                    .map(buffer -> {
+                        long start = System.nanoTime();
+                        Response<T> response = decoder.apply(buffer);
+                        timing.add(RequestTiming.Phase.DECODE, System.nanoTime() - start);
+                        return response;
+                    })
+                    .retryWhen(retryWhen(operation, shard, timing, deadline));
+        });
+    }
+
+    /**
+     * Looks the id up on the shard the router picks first and, when that shard does not know it, on the remaining
+     * shards in parallel. The first lookup is hedged according to {@link HedgingPolicy}.
+     */
     public Mono<Employee> getById(String employeeId) {
-        return webClient
-                .get()
-                .uri("/employee/{id}", employeeId)
-                .retrieve()
-                .onStatus(code -> code.isError() && code != HttpStatus.NOT_FOUND, this::handleErrorResponse)
-                .bodyToMono(new ParameterizedTypeReference<Response<Employee>>() {})
-                .retryWhen(retryWhen())
+        int primary = shardRouter.shardFor(employeeId);
+        Mono<Employee> lookup = hedgingPolicy.hedge(() -> getById(primary, employeeId));
+        if (shards.size() == 1) {
+            return lookup;
+        }
+        return lookup.switchIfEmpty(Mono.defer(() -> Flux.range(0, shards.size())
+                .filter(shard -> shard != primary)
+                .flatMap(shard -> getById(shard, employeeId))
+                .next()));
+    }
+
+    private Mono<Employee> getById(int shard, String employeeId) {
+        return exchange(
+                        "getById",
+                        UpstreamScheduler.Lane.POINT_READ,
+                        shard,
+                        shards.get(shard).get().uri("/employee/{id}", employeeId),
+                        code -> code.isError() && code != HttpStatus.NOT_FOUND,
+                        responseReader::readEmployee)
                 .onErrorResume(
                         e -> e instanceof WebClientResponseException
                                 && ((WebClientResponseException) e).getStatusCode() == HttpStatus.NOT_FOUND,
                         exception -> Mono.empty())
-                .flatMap(this::validateAndExtractEmployee);
+                .<Employee>flatMap(this::validateAndExtractEmployee)
+                .doOnNext(employee -> shardRouter.remember(employee.id(), shard));
     }
 
     public Mono<List<Employee>> getAll() {
-        return webClient
-                .get()
-                .uri("/employee")
-                .retrieve()
-                .onStatus(HttpStatusCode::isError, this::handleErrorResponse)
-                .bodyToMono(new ParameterizedTypeReference<Response<List<Employee>>>() {})
-                .retryWhen(retryWhen())
-                .flatMap(this::validateAndExtractEmployee);
+        return getAllByShard()
+                .map(partitions -> partitions.size() == 1
+                        ? partitions.get(0)
+                        : partitions.stream().flatMap(List::stream).toList());
+    }
+
+    /**
+     * Fetches every shard's roster in parallel; the result holds one list per shard, in shard order.
+     */
+    public Mono<List<List<Employee>>> getAllByShard() {
+        return Flux.range(0, shards.size()).flatMapSequential(this::getAll).collectList();
+    }
+
+    private Mono<List<Employee>> getAll(int shard) {
+        return exchange(
+                        "getAll",
+                        UpstreamScheduler.Lane.BULK_READ,
+                        shard,
+                        shards.get(shard).get().uri("/employee"),
+                        HttpStatusCode::isError,
+                        responseReader::readEmployees)
+                .<List<Employee>>flatMap(this::validateAndExtractEmployee)
+                .doOnNext(employees -> employees.forEach(employee -> shardRouter.remember(employee.id(), shard)));
+    }
+
+    /**
+     * Records which shard each employee lives on, as a roster fetch would; used when a saved roster is restored.
+     */
+    public void rememberShards(List<List<Employee>> employeesByShard) {
+        for (int shard = 0; shard < employeesByShard.size() && shard < shards.size(); shard++) {
+            for (Employee employee : employeesByShard.get(shard)) {
+                shardRouter.remember(employee.id(), shard);
+            }
+        }
+    }
+
+    /**
+     * Employees whose name contains the fragment, ignoring case, in shard order; at most
+     * {@code api.search.max-results} of them. The filter and the limit run upstream, so only matching employees are
+     * transferred.
+     */
+    public Mono<List<Employee>> findByName(String nameFragment) {
+        return Flux.range(0, shards.size())
+                .flatMapSequential(shard -> exchange(
+                                "findByName",
+                                UpstreamScheduler.Lane.BULK_READ,
+                                shard,
+                                shards.get(shard).get().uri(uri -> uri.path("/employee/query")
+                                        .queryParam("nameContains", "{name}")
+                                        .queryParam("limit", searchMaxResults)
+                                        .build(nameFragment)),
+                                HttpStatusCode::isError,
+                                responseReader::readEmployees)
+                        .<List<Employee>>flatMap(this::validateAndExtractEmployee)
+                        .doOnNext(
+                                employees -> employees.forEach(employee -> shardRouter.remember(employee.id(), shard))))
+                .collectList()
+                .map(partitions -> partitions.size() == 1
+                        ? partitions.get(0)
+                        : partitions.stream()
+                                .flatMap(List::stream)
+                                .limit(searchMaxResults)
+                                .toList());
     }
 
     public Mono<Employee> create(EmployeeInput employeeInput) {
-        return webClient
-                .post()
-                .uri("/employee")
-                .bodyValue(employeeInput)
-                .retrieve()
-                .onStatus(HttpStatusCode::isError, this::handleErrorResponse)
-                .bodyToMono(new ParameterizedTypeReference<Response<Employee>>() {})
-                .retryWhen(retryWhen())
-                .flatMap(this::validateAndExtractEmployee);
-    }
-
-    public Mono<Boolean> delete(EmployeeInput deleteEmployeeInput) {
-        return webClient
-                .method(HttpMethod.DELETE)
-                .uri("/employee")
-                .bodyValue(deleteEmployeeInput)
-                .retrieve()
-                .onStatus(HttpStatusCode::isError, this::handleErrorResponse)
-                .bodyToMono(new ParameterizedTypeReference<Response<Boolean>>() {})
-                .retryWhen(retryWhen())
-                .map(Response::data);
+        int shard = shardRouter.shardFor(employeeInput);
+        return exchange(
+                        "create",
+                        UpstreamScheduler.Lane.WRITE,
+                        shard,
+                        shards.get(shard).post().uri("/employee").bodyValue(employeeInput),
+                        HttpStatusCode::isError,
+                        responseReader::readEmployee)
+                .<Employee>flatMap(this::validateAndExtractEmployee)
+                .doOnNext(employee -> shardRouter.remember(employee.id(), shard));
+    }
+
+    /**
+     * Deletes by id in one round trip and yields the deleted employee. The shard the router picks is asked first and,
+     * when it does not know the id, the remaining shards in parallel.
+     */
+    public Mono<Employee> deleteById(String employeeId) {
+        int primary = shardRouter.shardFor(employeeId);
+        Mono<Employee> delete = deleteById(primary, employeeId);
+        if (shards.size() == 1) {
+            return delete;
+        }
+        return delete.switchIfEmpty(Mono.defer(() -> Flux.range(0, shards.size())
+                .filter(shard -> shard != primary)
+                .flatMap(shard -> deleteById(shard, employeeId))
+                .next()));
+    }
+
+    private Mono<Employee> deleteById(int shard, String employeeId) {
+        return exchange(
+                        "delete",
+                        UpstreamScheduler.Lane.WRITE,
+                        shard,
+                        shards.get(shard).delete().uri("/employee/{id}", employeeId),
+                        code -> code.isError() && code != HttpStatus.NOT_FOUND,
+                        responseReader::readEmployee)
+                .onErrorResume(
+                        e -> e instanceof WebClientResponseException
+                                && ((WebClientResponseException) e).getStatusCode() == HttpStatus.NOT_FOUND,
+                        exception -> Mono.empty())
+                .<Employee>flatMap(this::validateAndExtractEmployee)
+                .doOnNext(employee -> shardRouter.forget(employeeId));
+    }
+
+    /**
+     * Blocks on one of this client's calls with the calling thread's {@link RequestTiming} and {@link Deadline} in its
+     * subscriber context, where every upstream attempt reads them.
+     */
+    public static <T> T await(Mono<T> call) {
+        return call.contextWrite(
+                        Context.of(RequestTiming.class, RequestTiming.current(), Deadline.class, Deadline.current()))
+                .block();
     }
 }
@@ -0,0 +1,160 @@
+package com.reliaquest.api.client;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.Response;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+
+/**
+ * Streaming decoder for the mock server's {@code Response<Employee>} and {@code Response<List<Employee>>} envelopes.
+ * <p>
+ * Reads tokens straight off the parser's character buffer: ids are parsed into a {@link UUID} without an intermediate
+ * {@code String}, and names, titles and emails are routed through a shared {@link StringCanonicalizer} so values
+ * repeated across rows and refreshes are not re-allocated.
+ */
+public class EmployeeResponseReader {
+
+    static final int DEFAULT_CANONICAL_STRINGS = 4096;
+
+    private final JsonFactory jsonFactory;
+    private final StringCanonicalizer strings;
+
+    public EmployeeResponseReader(JsonFactory jsonFactory) {
+        this(jsonFactory, DEFAULT_CANONICAL_STRINGS);
+    }
+
+    EmployeeResponseReader(JsonFactory jsonFactory, int canonicalStrings) {
+        this.jsonFactory = jsonFactory;
+        this.strings = new StringCanonicalizer(canonicalStrings);
+    }
+
+    public Response<Employee> readEmployee(DataBuffer buffer) {
+        return read(buffer, this::parseEmployee);
+    }
+
+    public Response<List<Employee>> readEmployees(DataBuffer buffer) {
+        return read(buffer, this::parseEmployeeList);
+    }
+
+    private <T> Response<T> read(DataBuffer buffer, DataReader<T> dataReader) {
+        try (InputStream inputStream = buffer.asInputStream(true);
+                JsonParser parser = jsonFactory.createParser(inputStream)) {
+            return readEnvelope(parser, dataReader);
+        } catch (IOException | IllegalArgumentException e) {
+            throw new DecodingException("Failed to decode employee response: " + e.getMessage(), e);
+        }
+    }
+
+    private <T> Response<T> readEnvelope(JsonParser parser, DataReader<T> dataReader) throws IOException {
+        expect(parser.nextToken(), JsonToken.START_OBJECT);
+        T data = null;
+        Response.Status status = null;
+        String error = null;
+        String field;
+        while ((field = parser.nextFieldName()) != null) {
+            JsonToken token = parser.nextToken();
+            switch (field) {
+                case "data" -> data = token == JsonToken.VALUE_NULL ? null : dataReader.read(parser);
+                case "status" -> status = token == JsonToken.VALUE_NULL ? null : status(parser.getText());
+                case "error" -> error = token == JsonToken.VALUE_NULL ? null : parser.getText();
+                default -> parser.skipChildren();
+            }
+        }
+        return new Response<>(data, status, error);
+    }
+
+    private List<Employee> parseEmployeeList(JsonParser parser) throws IOException {
+        expect(parser.currentToken(), JsonToken.START_ARRAY);
+        List<Employee> employees = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            employees.add(parseEmployee(parser));
+        }
+        return employees;
+    }
+
+    private Employee parseEmployee(JsonParser parser) throws IOException {
+        expect(parser.currentToken(), JsonToken.START_OBJECT);
+        UUID id = null;
+        String name = null;
+        Integer salary = null;
+        Integer age = null;
+        String title = null;
+        String email = null;
+        String field;
+        while ((field = parser.nextFieldName()) != null) {
+            JsonToken token = parser.nextToken();
+            if (token == JsonToken.VALUE_NULL) {
+                continue;
+            }
+            switch (field) {
+                case "id" -> id = uuid(parser);
+                case "employee_name" -> name = canonical(parser);
+                case "employee_salary" -> salary = parser.getIntValue();
+                case "employee_age" -> age = parser.getIntValue();
+                case "employee_title" -> title = canonical(parser);
+                case "employee_email" -> email = canonical(parser);
+                default -> parser.skipChildren();
+            }
+        }
+        return new Employee(id, name, salary, age, title, email);
+    }
+
+    private String canonical(JsonParser parser) throws IOException {
+        return strings.canonicalize(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+    }
+
+    private static UUID uuid(JsonParser parser) throws IOException {
+        char[] chars = parser.getTextCharacters();
+        int offset = parser.getTextOffset();
+        if (parser.getTextLength() != 36
+                || chars[offset + 8] != '-'
+                || chars[offset + 13] != '-'
+                || chars[offset + 18] != '-'
+                || chars[offset + 23] != '-') {
+            return UUID.fromString(parser.getText());
+        }
+        long mostSigBits = hex(chars, offset, 8) << 32 | hex(chars, offset + 9, 4) << 16 | hex(chars, offset + 14, 4);
+        long leastSigBits = hex(chars, offset + 19, 4) << 48 | hex(chars, offset + 24, 12);
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    private static long hex(char[] chars, int offset, int length) {
+        long value = 0;
+        for (int i = offset; i < offset + length; i++) {
+            int digit = Character.digit(chars[i], 16);
+            if (digit < 0) {
+                throw new IllegalArgumentException("Invalid UUID: " + new String(chars, offset, length));
+            }
+            value = value << 4 | digit;
+        }
+        return value;
+    }
+
+    private static Response.Status status(String value) {
+        for (Response.Status status : Response.Status.values()) {
+            if (status.getValue().equals(value)) {
+                return status;
+            }
+        }
+        throw new IllegalArgumentException("Unknown response status: " + value);
+    }
+
+    private static void expect(JsonToken actual, JsonToken expected) throws IOException {
+        if (actual != expected) {
+            throw new IOException("Expected " + expected + " but found " + actual);
+        }
+    }
+
+    @FunctionalInterface
+    private interface DataReader<T> {
+        T read(JsonParser parser) throws IOException;
+    }
+}
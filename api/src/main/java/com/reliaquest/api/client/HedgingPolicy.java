@@ -0,0 +1,142 @@
+package com.reliaquest.api.client;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Opt-in request hedging: when an attempt has not answered within the configured percentile of recently observed
+ * latencies, a duplicate attempt is started and whichever answers first wins; the loser is cancelled.
+ * <p>
+ * Latencies of single answered attempts, as reported by {@link EmployeeClient}, are tracked in a decaying histogram
+ * with power-of-two millisecond buckets, so recording and the percentile lookup are both lock-free and
+ * allocation-free. Hedges are paid for from a token budget that every primary attempt
+ * tops up by {@code budgetRatio}, which caps extra upstream load at that ratio, and hedging pauses entirely after the
+ * upstream has answered with 429 so it never spends the mock server's rate-limit window.
+ */
+@Component
+public class HedgingPolicy {
+
+    private static final int BUCKETS = 24;
+    private static final int MIN_SAMPLES = 20;
+    private static final int DECAY_INTERVAL = 1024;
+    private static final long TOKEN = 1_000;
+    private static final long MAX_TOKENS = 10 * TOKEN;
+
+    private final boolean enabled;
+    private final double percentile;
+    private final long earnedPerAttempt;
+    private final long minDelayNanos;
+    private final long throttlePauseNanos;
+
+    private final AtomicLongArray histogram = new AtomicLongArray(BUCKETS);
+    private final AtomicLong samples = new AtomicLong();
+    private final AtomicLong tokens = new AtomicLong();
+    private final AtomicLong pausedUntil = new AtomicLong(System.nanoTime());
+
+    public HedgingPolicy(
+            @Value("${api.hedging.enabled:false}") boolean enabled,
+            @Value("${api.hedging.percentile:0.95}") double percentile,
+            @Value("${api.hedging.budget-ratio:0.05}") double budgetRatio,
+            @Value("${api.hedging.min-delay:5ms}") Duration minDelay,
+            @Value("${api.hedging.throttle-pause:30s}") Duration throttlePause) {
+        if (percentile <= 0 || percentile >= 1) {
+            throw new IllegalArgumentException("api.hedging.percentile must be between 0 and 1: " + percentile);
+        }
+        this.enabled = enabled;
+        this.percentile = percentile;
+        this.earnedPerAttempt = Math.round(budgetRatio * TOKEN);
+        this.minDelayNanos = minDelay.toNanos();
+        this.throttlePauseNanos = throttlePause.toNanos();
+    }
+
+    public <T> Mono<T> hedge(Supplier<Mono<T>> attempt) {
+        if (!enabled) {
+            return attempt.get();
+        }
+        return Mono.defer(() -> {
+            earn();
+            Mono<T> primary = attempt.get();
+            long delay = hedgeDelayNanos();
+            if (delay < 0) {
+                return primary;
+            }
+            Mono<T> hedge =
+                    Mono.delay(Duration.ofNanos(delay)).flatMap(ignored -> tryAcquire() ? attempt.get() : Mono.never());
+            return Mono.firstWithSignal(primary, hedge);
+        });
+    }
+
+    /**
+     * Called when the upstream rate-limits us; hedges stop until the pause has elapsed.
+     */
+    public void onThrottled() {
+        pausedUntil.set(System.nanoTime() + throttlePauseNanos);
+    }
+
+    /**
+     * Records the latency of a single upstream attempt that answered. Failed attempts, attempts cancelled because the
+     * other one won, and the backoff between retries are left out, as they would skew the percentile.
+     */
+    void onAnswered(long latencyNanos) {
+        if (enabled) {
+            record(latencyNanos);
+        }
+    }
+
+    void record(long latencyNanos) {
+        long millis = Math.max(1, latencyNanos / 1_000_000);
+        int bucket = Math.min(BUCKETS - 1, 63 - Long.numberOfLeadingZeros(millis));
+        histogram.incrementAndGet(bucket);
+        if (samples.incrementAndGet() % DECAY_INTERVAL == 0) {
+            for (int i = 0; i < BUCKETS; i++) {
+                histogram.set(i, histogram.get(i) >> 1);
+            }
+        }
+    }
+
+    /**
+     * Upper bound of the histogram bucket holding the configured percentile, or {@code -1} while there are too few
+     * samples to judge.
+     */
+    long hedgeDelayNanos() {
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            total += histogram.get(i);
+        }
+        if (total < MIN_SAMPLES) {
+            return -1;
+        }
+        long target = (long) Math.ceil(total * percentile);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += histogram.get(i);
+            if (seen >= target) {
+                return Math.max(minDelayNanos, (2L << i) * 1_000_000);
+            }
+        }
+        return Math.max(minDelayNanos, (2L << (BUCKETS - 1)) * 1_000_000);
+    }
+
+    private void earn() {
+        tokens.getAndUpdate(current -> Math.min(MAX_TOKENS, current + earnedPerAttempt));
+    }
+
+    boolean tryAcquire() {
+        if (System.nanoTime() - pausedUntil.get() < 0) {
+            return false;
+        }
+        long current;
+        do {
+            current = tokens.get();
+            if (current < TOKEN) {
+                return false;
+            }
+        } while (!tokens.compareAndSet(current, current - TOKEN));
+        return true;
+    }
+}
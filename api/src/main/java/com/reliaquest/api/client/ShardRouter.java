@@ -0,0 +1,133 @@
+package com.reliaquest.api.client;
+
+import com.reliaquest.api.model.EmployeeInput;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Maps employee ids onto upstream shards with a consistent-hash ring.
+ * <p>
+ * The mock server mints its own ids, so an id is not guaranteed to live on the shard the ring picks for it. Shards an
+ * id was actually seen on (by a lookup, create or roster fetch) are remembered in a bounded LRU table that takes
+ * precedence over the ring; the ring is the first guess for ids that have not been seen yet.
+ */
+final class ShardRouter {
+
+    enum Placement {
+        ROUND_ROBIN,
+        NAME_HASH
+    }
+
+    private static final int VIRTUAL_NODES = 128;
+    private static final int MAX_KNOWN_LOCATIONS = 65_536;
+
+    private final int shardCount;
+    private final Placement placement;
+    private final long[] ringHashes;
+    private final int[] ringShards;
+    private final AtomicInteger nextShard = new AtomicInteger();
+    private final Map<UUID, Integer> knownLocations =
+            Collections.synchronizedMap(new LinkedHashMap<>(256, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<UUID, Integer> eldest) {
+                    return size() > MAX_KNOWN_LOCATIONS;
+                }
+            });
+
+    ShardRouter(int shardCount, Placement placement) {
+        if (shardCount <= 0) {
+            throw new IllegalArgumentException("At least one upstream shard is required");
+        }
+        this.shardCount = shardCount;
+        this.placement = placement;
+        long[][] nodes = new long[shardCount * VIRTUAL_NODES][];
+        for (int shard = 0; shard < shardCount; shard++) {
+            for (int replica = 0; replica < VIRTUAL_NODES; replica++) {
+                nodes[shard * VIRTUAL_NODES + replica] = new long[] {mix(shard * 0x9E3779B97F4A7C15L + replica), shard};
+            }
+        }
+        Arrays.sort(nodes, (left, right) -> Long.compare(left[0], right[0]));
+        this.ringHashes = new long[nodes.length];
+        this.ringShards = new int[nodes.length];
+        for (int i = 0; i < nodes.length; i++) {
+            ringHashes[i] = nodes[i][0];
+            ringShards[i] = (int) nodes[i][1];
+        }
+    }
+
+    /**
+     * Shard to ask first for the given id.
+     */
+    int shardFor(String id) {
+        if (shardCount == 1) {
+            return 0;
+        }
+        UUID uuid = parse(id);
+        if (uuid == null) {
+            return onRing(hash(id));
+        }
+        Integer known = knownLocations.get(uuid);
+        return known != null ? known : onRing(mix(uuid.getMostSignificantBits() ^ mix(uuid.getLeastSignificantBits())));
+    }
+
+    /**
+     * Shard that should receive a newly created employee.
+     */
+    int shardFor(EmployeeInput input) {
+        if (shardCount == 1) {
+            return 0;
+        }
+        return switch (placement) {
+            case ROUND_ROBIN -> Math.floorMod(nextShard.getAndIncrement(), shardCount);
+            case NAME_HASH -> onRing(hash(String.valueOf(input.getName()).toLowerCase(Locale.ROOT)));
+        };
+    }
+
+    void remember(UUID id, int shard) {
+        if (shardCount > 1 && id != null) {
+            knownLocations.put(id, shard);
+        }
+    }
+
+    void forget(String id) {
+        UUID uuid = parse(id);
+        if (uuid != null) {
+            knownLocations.remove(uuid);
+        }
+    }
+
+    private int onRing(long hash) {
+        int index = Arrays.binarySearch(ringHashes, hash);
+        if (index < 0) {
+            index = -index - 1;
+        }
+        return ringShards[index == ringHashes.length ? 0 : index];
+    }
+
+    private static UUID parse(String id) {
+        try {
+            return UUID.fromString(id);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static long hash(String value) {
+        long hash = 0xCBF29CE484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash = (hash ^ value.charAt(i)) * 0x100000001B3L;
+        }
+        return mix(hash);
+    }
+
+    private static long mix(long value) {
+        value = (value ^ (value >>> 33)) * 0xFF51AFD7ED558CCDL;
+        value = (value ^ (value >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return value ^ (value >>> 33);
+    }
+}
@@ -0,0 +1,57 @@
+package com.reliaquest.api.client;
+
+/**
+ * Bounded, direct-mapped table of canonical {@link String} instances keyed by their characters.
+ * <p>
+ * Lookups compare the candidate characters against the cached instance without allocating, so a value that repeats
+ * across rows (job titles) or across roster refreshes (names, emails) is materialised only once. A colliding value
+ * simply replaces the slot, which keeps the table size fixed regardless of roster size.
+ * <p>
+ * Slots are written without synchronisation: {@code String} is immutable and safely published, so the worst a race
+ * can do is cost an extra allocation.
+ */
+final class StringCanonicalizer {
+
+    private final String[] table;
+    private final int mask;
+
+    StringCanonicalizer(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        int size = Integer.highestOneBit(capacity);
+        this.table = new String[size < capacity ? size << 1 : size];
+        this.mask = table.length - 1;
+    }
+
+    String canonicalize(char[] chars, int offset, int length) {
+        int hash = 0;
+        for (int i = offset; i < offset + length; i++) {
+            hash = 31 * hash + chars[i];
+        }
+        int slot = (hash ^ (hash >>> 16)) & mask;
+        String cached = table[slot];
+        if (cached != null && matches(cached, chars, offset, length)) {
+            return cached;
+        }
+        String value = new String(chars, offset, length);
+        table[slot] = value;
+        return value;
+    }
+
+    int capacity() {
+        return table.length;
+    }
+
+    private static boolean matches(String cached, char[] chars, int offset, int length) {
+        if (cached.length() != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (cached.charAt(i) != chars[offset + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
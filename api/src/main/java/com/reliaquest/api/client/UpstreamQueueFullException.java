@@ -0,0 +1,11 @@
+package com.reliaquest.api.client;
+
+/**
+ * Too many upstream calls of one lane are already waiting for a slot, so this one is rejected instead of queued.
+ */
+public class UpstreamQueueFullException extends RuntimeException {
+
+    public UpstreamQueueFullException(String lane) {
+        super("Too many " + lane + " calls waiting for upstream");
+    }
+}
@@ -0,0 +1,228 @@
+package com.reliaquest.api.client;
+
+import com.reliaquest.api.web.RequestTiming;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+
+/**
+ * Bounds the number of upstream calls in flight and decides, when calls have to wait, which lane goes next, so a read
+ * storm cannot push writes into the upstream rate limit.
+ * <p>
+ * Waiting calls queue per lane, up to each lane's queue limit; beyond it a call fails fast with
+ * {@link UpstreamQueueFullException}. Free slots are handed out by stride scheduling over the lane weights, so each
+ * busy lane gets its weighted share of dispatches and an idle lane cannot bank credit. A call that has waited longer
+ * than {@code aging} goes first whatever its lane, which keeps bulk reads from starving. Each attempt queues
+ * separately, so a call backing off after a 429 holds no slot. Queue wait is exported per lane as the
+ * {@code api.upstream.queue.wait} timer and recorded as the {@code queue} phase of the request's timings.
+ */
+@Component
+public class UpstreamScheduler {
+
+    public enum Lane {
+        WRITE("write"),
+        POINT_READ("point-read"),
+        BULK_READ("bulk-read");
+
+        private final String tag;
+
+        Lane(String tag) {
+            this.tag = tag;
+        }
+    }
+
+    private static final Lane[] LANES = Lane.values();
+    private static final long STRIDE = 1L << 20;
+
+    private final int maxInFlight;
+    private final long agingNanos;
+    private final long[] strides = new long[LANES.length];
+    private final int[] queueLimits = new int[LANES.length];
+    private final Timer[] waitTimers = new Timer[LANES.length];
+    private final Counter[] rejections = new Counter[LANES.length];
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final List<ArrayDeque<Waiter>> queues = new ArrayList<>();
+    private final long[] passes = new long[LANES.length];
+    private long virtualTime;
+    private int inFlight;
+
+    public UpstreamScheduler(
+            MeterRegistry meterRegistry,
+            @Value("${api.upstream.max-concurrency:32}") int maxConcurrency,
+            @Value("${api.upstream.weights:6,3,1}") List<Integer> weights,
+            @Value("${api.upstream.queue-limits:256,256,64}") List<Integer> queueLimits,
+            @Value("${api.upstream.aging:250ms}") Duration aging) {
+        if (weights.size() != LANES.length || queueLimits.size() != LANES.length) {
+            throw new IllegalArgumentException(
+                    "api.upstream.weights and api.upstream.queue-limits need one value per lane: write, point-read, "
+                            + "bulk-read");
+        }
+        this.maxInFlight = maxConcurrency;
+        this.agingNanos = aging.toNanos();
+        for (Lane lane : LANES) {
+            int weight = weights.get(lane.ordinal());
+            if (weight <= 0) {
+                throw new IllegalArgumentException("api.upstream.weights must be positive: " + weights);
+            }
+            ArrayDeque<Waiter> queue = new ArrayDeque<>();
+            queues.add(queue);
+            strides[lane.ordinal()] = STRIDE / weight;
+            this.queueLimits[lane.ordinal()] = queueLimits.get(lane.ordinal());
+            waitTimers[lane.ordinal()] = Timer.builder("api.upstream.queue.wait")
+                    .description("Time upstream calls waited for a slot")
+                    .tag("lane", lane.tag)
+                    .publishPercentiles(0.5, 0.99)
+                    .register(meterRegistry);
+            rejections[lane.ordinal()] = Counter.builder("api.upstream.queue.rejected")
+                    .description("Upstream calls rejected because their lane's queue was full")
+                    .tag("lane", lane.tag)
+                    .register(meterRegistry);
+            Gauge.builder("api.upstream.queue.size", queue, ArrayDeque::size)
+                    .description("Upstream calls waiting for a slot")
+                    .tag("lane", lane.tag)
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * Subscribes to {@code call} once the lane is granted a slot, and frees the slot when the call terminates or is
+     * cancelled. Not limited when {@code max-concurrency} is zero.
+     */
+    public <T> Mono<T> schedule(Lane lane, Mono<T> call) {
+        if (maxInFlight <= 0) {
+            return call;
+        }
+        return Mono.deferContextual(context -> {
+            Waiter waiter = new Waiter(lane, System.nanoTime());
+            return Mono.<Void>create(sink -> enqueue(waiter, sink))
+                    .then(Mono.defer(() -> {
+                        long waited = System.nanoTime() - waiter.enqueuedAtNanos;
+                        waitTimers[lane.ordinal()].record(waited, TimeUnit.NANOSECONDS);
+                        RequestTiming.from(context).add(RequestTiming.Phase.QUEUE, waited);
+                        return call;
+                    }))
+                    .doFinally(signal -> {
+                        if (waiter.admitted) {
+                            release();
+                        }
+                    });
+        });
+    }
+
+    private void enqueue(Waiter waiter, MonoSink<Void> sink) {
+        List<Waiter> admitted;
+        lock.lock();
+        try {
+            ArrayDeque<Waiter> queue = queues.get(waiter.lane.ordinal());
+            if (queue.size() >= queueLimits[waiter.lane.ordinal()]) {
+                rejections[waiter.lane.ordinal()].increment();
+                sink.error(new UpstreamQueueFullException(waiter.lane.tag));
+                return;
+            }
+            if (queue.isEmpty()) {
+                // A lane that was idle rejoins at the current virtual time instead of spending credit it never used.
+                passes[waiter.lane.ordinal()] = Math.max(passes[waiter.lane.ordinal()], virtualTime);
+            }
+            waiter.sink = sink;
+            queue.add(waiter);
+            sink.onCancel(() -> cancel(waiter));
+            admitted = dispatch();
+        } finally {
+            lock.unlock();
+        }
+        admitted.forEach(next -> next.sink.success());
+    }
+
+    private void cancel(Waiter waiter) {
+        lock.lock();
+        try {
+            if (!waiter.admitted) {
+                queues.get(waiter.lane.ordinal()).remove(waiter);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void release() {
+        List<Waiter> admitted;
+        lock.lock();
+        try {
+            inFlight--;
+            admitted = dispatch();
+        } finally {
+            lock.unlock();
+        }
+        admitted.forEach(next -> next.sink.success());
+    }
+
+    /**
+     * Admits waiters while slots are free; their sinks are completed by the caller after the lock is released, so the
+     * calls themselves never start under it.
+     */
+    private List<Waiter> dispatch() {
+        List<Waiter> admitted = List.of();
+        while (inFlight < maxInFlight) {
+            Lane lane = nextLane(System.nanoTime());
+            if (lane == null) {
+                break;
+            }
+            Waiter waiter = queues.get(lane.ordinal()).poll();
+            virtualTime = passes[lane.ordinal()];
+            passes[lane.ordinal()] += strides[lane.ordinal()];
+            waiter.admitted = true;
+            inFlight++;
+            if (admitted.isEmpty()) {
+                admitted = new ArrayList<>(2);
+            }
+            admitted.add(waiter);
+        }
+        return admitted;
+    }
+
+    private Lane nextLane(long now) {
+        Lane oldest = null;
+        Lane lowestPass = null;
+        for (Lane lane : LANES) {
+            Waiter head = queues.get(lane.ordinal()).peek();
+            if (head == null) {
+                continue;
+            }
+            if (oldest == null
+                    || head.enqueuedAtNanos < queues.get(oldest.ordinal()).peek().enqueuedAtNanos) {
+                oldest = lane;
+            }
+            if (lowestPass == null || passes[lane.ordinal()] < passes[lowestPass.ordinal()]) {
+                lowestPass = lane;
+            }
+        }
+        if (oldest != null && now - queues.get(oldest.ordinal()).peek().enqueuedAtNanos >= agingNanos) {
+            return oldest;
+        }
+        return lowestPass;
+    }
+
+    private static final class Waiter {
+        private final Lane lane;
+        private final long enqueuedAtNanos;
+        private MonoSink<Void> sink;
+        private volatile boolean admitted;
+
+        private Waiter(Lane lane, long enqueuedAtNanos) {
+            this.lane = lane;
+            this.enqueuedAtNanos = enqueuedAtNanos;
+        }
+    }
+}
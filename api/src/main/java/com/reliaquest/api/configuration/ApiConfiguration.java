@@ -1,8 +1,17 @@
 package com.reliaquest.api.configuration;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.client.EmployeeResponseReader;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 @Slf4j
 @Configuration
-public class ApiConfiguration {}
+public class ApiConfiguration {
+
+    @Bean
+    public EmployeeResponseReader employeeResponseReader(ObjectMapper objectMapper) {
+        return new EmployeeResponseReader(objectMapper.getFactory());
+    }
+}
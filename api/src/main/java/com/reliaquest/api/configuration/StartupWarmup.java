@@ -0,0 +1,94 @@
+package com.reliaquest.api.configuration;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.client.EmployeeClient;
+import com.reliaquest.api.client.EmployeeResponseReader;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.Response;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Exercises the Jackson codecs and, optionally, the {@link EmployeeClient} upstream path before the application is
+ * marked ready. Application runners complete before Spring Boot publishes {@code ReadinessState.ACCEPTING_TRAFFIC},
+ * so the readiness probe only turns green once the hot paths have been loaded and compiled.
+ * <p>
+ * {@code api.warmup.enabled} is read when the application starts rather than through a condition, which AOT would
+ * evaluate at build time, so the AppCDS training run can switch the warm-up on; with {@code api.warmup.exit} it then
+ * stops the application once the warm-up has finished.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StartupWarmup implements ApplicationRunner {
+
+    private final ObjectMapper objectMapper;
+    private final EmployeeResponseReader responseReader;
+    private final EmployeeClient employeeClient;
+    private final ConfigurableApplicationContext applicationContext;
+
+    @Value("${api.warmup.enabled:false}")
+    private boolean enabled;
+
+    @Value("${api.warmup.iterations:500}")
+    private int iterations;
+
+    @Value("${api.warmup.upstream:false}")
+    private boolean upstream;
+
+    @Value("${api.warmup.upstream-timeout:2s}")
+    private Duration upstreamTimeout;
+
+    @Value("${api.warmup.exit:false}")
+    private boolean exit;
+
+    @Override
+    public void run(ApplicationArguments args) throws JsonProcessingException {
+        if (!enabled) {
+            return;
+        }
+        long start = System.nanoTime();
+        List<Employee> employees = IntStream.range(0, 50)
+                .mapToObj(i -> new Employee(
+                        UUID.randomUUID(), "Warmup " + i, 30000 + i, 16 + i, "Title " + i % 5, i + "@company.com"))
+                .toList();
+        byte[] roster = objectMapper.writeValueAsBytes(new Response<>(employees, Response.Status.HANDLED, null));
+        byte[] single = objectMapper.writeValueAsBytes(new Response<>(employees.get(0), Response.Status.HANDLED, null));
+        for (int i = 0; i < iterations; i++) {
+            responseReader.readEmployees(DefaultDataBufferFactory.sharedInstance.wrap(roster));
+            responseReader.readEmployee(DefaultDataBufferFactory.sharedInstance.wrap(single));
+            objectMapper.writeValueAsBytes(employees);
+            objectMapper.writeValueAsBytes(
+                    employees.stream().map(Employee::employee_name).toList());
+        }
+        if (upstream) {
+            employeeClient
+                    .getAll()
+                    .timeout(upstreamTimeout)
+                    .onErrorResume(e -> {
+                        log.warn("Upstream warm-up call failed: {}", e.getMessage());
+                        return Mono.empty();
+                    })
+                    .block();
+        }
+        log.info(
+                "Warm-up completed in {} ms",
+                Duration.ofNanos(System.nanoTime() - start).toMillis());
+        if (exit) {
+            System.exit(SpringApplication.exit(applicationContext));
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.reliaquest.api.configuration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.service.EmployeeRoster;
+import com.reliaquest.api.web.AccessLog;
+import com.reliaquest.api.web.AccessLogInterceptor;
+import com.reliaquest.api.web.ConcurrencyLimitInterceptor;
+import com.reliaquest.api.web.ConcurrencyLimiter;
+import com.reliaquest.api.web.DeadlineInterceptor;
+import com.reliaquest.api.web.ResponseCache;
+import com.reliaquest.api.web.ResponseCacheInterceptor;
+import com.reliaquest.api.web.ServerTimingInterceptor;
+import java.time.Duration;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/*
+ * Request handling in front of EmployeeController, outermost first: access log, deadline, admission control, timing,
+ * response cache.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class WebConfiguration implements WebMvcConfigurer {
+
+    @Value(
+            "${api.concurrency.bulk-paths:/api/v1/employee,/api/v1/employee/highestSalary,/api/v1/employee/topTenHighestEarningEmployeeNames,/api/v1/employee/stats/**}")
+    private List<String> bulkPaths;
+
+    @Value("${api.concurrency.retry-after:1s}")
+    private Duration retryAfter;
+
+    @Value("${api.deadline.header:X-Request-Timeout}")
+    private String deadlineHeader;
+
+    @Value("${api.deadline.default:10s}")
+    private Duration defaultDeadline;
+
+    @Value("${api.deadline.max:30s}")
+    private Duration maxDeadline;
+
+    @Value("${api.deadline.endpoints:}")
+    private List<String> endpointDeadlines;
+
+    @Value("${api.response-cache.enabled:true}")
+    private boolean responseCacheEnabled;
+
+    @Value("${api.response-cache.max-entries:256}")
+    private int responseCacheMaxEntries;
+
+    @Value(
+            "${api.response-cache.paths:/api/v1/employee,/api/v1/employee/highestSalary,/api/v1/employee/topTenHighestEarningEmployeeNames,/api/v1/employee/stats/**}")
+    private List<String> responseCachePaths;
+
+    @Value("${api.response-cache.recent-paths:/api/v1/employee/stats/**}")
+    private List<String> responseCacheRecentPaths;
+
+    private final AccessLog accessLog;
+    private final ConcurrencyLimiter concurrencyLimiter;
+    private final EmployeeRoster employeeRoster;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        if (accessLog.isEnabled()) {
+            registry.addInterceptor(new AccessLogInterceptor(accessLog)).addPathPatterns("/api/**");
+        }
+        registry.addInterceptor(
+                        new DeadlineInterceptor(deadlineHeader, defaultDeadline, maxDeadline, endpointDeadlines))
+                .addPathPatterns("/api/**");
+        if (concurrencyLimiter.isEnabled()) {
+            registry.addInterceptor(
+                            new ConcurrencyLimitInterceptor(concurrencyLimiter, objectMapper, bulkPaths, retryAfter))
+                    .addPathPatterns("/api/**");
+        }
+        registry.addInterceptor(new ServerTimingInterceptor()).addPathPatterns("/api/**");
+        if (responseCacheEnabled) {
+            registry.addInterceptor(new ResponseCacheInterceptor(
+                            employeeRoster,
+                            new ResponseCache(responseCacheMaxEntries),
+                            responseCachePaths,
+                            responseCacheRecentPaths))
+                    .addPathPatterns("/api/**");
+        }
+    }
+}
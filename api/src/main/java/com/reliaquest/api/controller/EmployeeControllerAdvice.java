@@ -1,18 +1,70 @@
 package com.reliaquest.api.controller;
 
+import com.reliaquest.api.client.DeadlineExceededException;
+import com.reliaquest.api.client.UpstreamQueueFullException;
 import com.reliaquest.api.model.Response;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 
+/**
+ * Maps failures to responses. Every failed request is already in the {@link com.reliaquest.api.web.AccessLog}, so
+ * expected failures such as deadlines and full queues are not logged here; unexpected ones are logged with their
+ * stack trace at most once per {@link #ERROR_LOG_INTERVAL}, since they tend to arrive all at once during an outage.
+ */
 @Slf4j
 @ControllerAdvice
 public class EmployeeControllerAdvice {
 
+    private static final Duration ERROR_LOG_INTERVAL = Duration.ofSeconds(30);
+
+    private final String upstreamRetryAfterSeconds;
+    private final AtomicLong lastErrorLogNanos = new AtomicLong();
+    private final LongAdder suppressedErrors = new LongAdder();
+
+    public EmployeeControllerAdvice(
+            @Value("${api.upstream.retry-after:${api.concurrency.retry-after:1s}}") Duration upstreamRetryAfter) {
+        this.upstreamRetryAfterSeconds = Long.toString(Math.max(1, upstreamRetryAfter.toSeconds()));
+    }
+
+    @ExceptionHandler
+    protected ResponseEntity<?> handleDeadlineExceeded(DeadlineExceededException ex) {
+        return ResponseEntity.status(HttpStatus.GATEWAY_TIMEOUT).body(Response.error(ex.getMessage()));
+    }
+
+    @ExceptionHandler
+    protected ResponseEntity<?> handleUpstreamQueueFull(UpstreamQueueFullException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, upstreamRetryAfterSeconds)
+                .body(Response.error(ex.getMessage()));
+    }
+
     @ExceptionHandler
     protected ResponseEntity<?> handleException(Throwable ex) {
-        log.error("Error handling web request.", ex);
+        logError(ex);
         return ResponseEntity.internalServerError().body(Response.error(ex.getMessage()));
     }
+
+    private void logError(Throwable ex) {
+        long now = System.nanoTime();
+        long last = lastErrorLogNanos.get();
+        if (last != 0 && now - last < ERROR_LOG_INTERVAL.toNanos()) {
+            suppressedErrors.increment();
+            log.debug("Error handling web request: {}", ex.toString());
+            return;
+        }
+        if (lastErrorLogNanos.compareAndSet(last, now)) {
+            log.error(
+                    "Error handling web request ({} more errors since the last one logged)",
+                    suppressedErrors.sumThenReset(),
+                    ex);
+        }
+    }
 }
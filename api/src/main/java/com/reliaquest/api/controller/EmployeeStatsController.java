@@ -0,0 +1,42 @@
+package com.reliaquest.api.controller;
+
+import com.reliaquest.api.model.Histogram;
+import com.reliaquest.api.model.SalaryPercentiles;
+import com.reliaquest.api.service.EmployeeStatistics;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/employee/stats")
+@RequiredArgsConstructor
+public class EmployeeStatsController {
+
+    private final EmployeeStatistics employeeStatistics;
+
+    @GetMapping("/salary/percentiles")
+    public ResponseEntity<SalaryPercentiles> getSalaryPercentiles(
+            @RequestParam(name = "q", defaultValue = "0.5,0.9,0.99") List<Double> quantiles) {
+        if (quantiles.isEmpty() || quantiles.stream().anyMatch(q -> !(q >= 0 && q <= 1))) {
+            return ResponseEntity.badRequest().build();
+        }
+        return employeeStatistics
+                .getSalaryPercentiles(quantiles)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    @GetMapping("/salary/histogram")
+    public ResponseEntity<Histogram> getSalaryHistogram() {
+        return ResponseEntity.ok(employeeStatistics.getSalaryHistogram());
+    }
+
+    @GetMapping("/age/histogram")
+    public ResponseEntity<Histogram> getAgeHistogram() {
+        return ResponseEntity.ok(employeeStatistics.getAgeHistogram());
+    }
+}
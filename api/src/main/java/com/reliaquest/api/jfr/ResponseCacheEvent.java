@@ -0,0 +1,32 @@
+package com.reliaquest.api.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * How the response cache answered a cacheable read.
+ */
+@Name("com.reliaquest.api.ResponseCache")
+@Label("Response Cache")
+@Category({"Employee API", "Roster"})
+@StackTrace(false)
+public class ResponseCacheEvent extends Event {
+
+    public static final String NOT_MODIFIED = "not-modified";
+    public static final String HIT = "hit";
+    public static final String MISS = "miss";
+
+    @Label("Key")
+    public String key;
+
+    @Label("Roster Version")
+    public long version;
+
+    @Label("Outcome")
+    @Description("not-modified, hit or miss")
+    public String outcome;
+}
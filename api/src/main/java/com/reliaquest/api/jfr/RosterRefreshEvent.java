@@ -0,0 +1,36 @@
+package com.reliaquest.api.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A fetch of the full roster from upstream.
+ */
+@Name("com.reliaquest.api.RosterRefresh")
+@Label("Roster Refresh")
+@Category({"Employee API", "Roster"})
+@StackTrace(false)
+public class RosterRefreshEvent extends Event {
+
+    @Label("Version")
+    public long version;
+
+    @Label("Employees")
+    public int employees;
+
+    @Label("Changed")
+    @Description("The fetched roster differed from the previous one and got a new version")
+    public boolean changed;
+
+    @Label("Changes")
+    @Description("Employees added, removed or updated since the previous version")
+    public int changes;
+
+    @Label("Cached")
+    @Description("The snapshot was kept for later reads; false when the fetch overlapped an invalidation")
+    public boolean cached;
+}
@@ -0,0 +1,28 @@
+package com.reliaquest.api.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * The pause before retrying an upstream call that was answered with 429.
+ */
+@Name("com.reliaquest.api.UpstreamBackoff")
+@Label("Upstream Backoff")
+@Category({"Employee API", "Upstream"})
+@StackTrace(false)
+public class UpstreamBackoffEvent extends Event {
+
+    @Label("Operation")
+    public String operation;
+
+    @Label("Shard")
+    public int shard;
+
+    @Label("Attempt")
+    @Description("Number of throttled attempts so far")
+    public long attempt;
+}
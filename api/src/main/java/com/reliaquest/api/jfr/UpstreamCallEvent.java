@@ -0,0 +1,33 @@
+package com.reliaquest.api.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One attempt at an upstream call, from sending the request until the body is read, the call fails or it is cancelled.
+ */
+@Name("com.reliaquest.api.UpstreamCall")
+@Label("Upstream Call")
+@Category({"Employee API", "Upstream"})
+@StackTrace(false)
+public class UpstreamCallEvent extends Event {
+
+    @Label("Operation")
+    public String operation;
+
+    @Label("Shard")
+    public int shard;
+
+    @Label("Status")
+    @Description("HTTP status, or 0 when no response arrived")
+    public int status;
+
+    @Label("Bytes")
+    @DataAmount
+    public long bytes;
+}
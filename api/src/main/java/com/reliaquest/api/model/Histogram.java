@@ -0,0 +1,8 @@
+package com.reliaquest.api.model;
+
+import java.util.List;
+
+/**
+ * Bucket {@code i} of {@code counts} covers {@code [lowerBound + i * bucketWidth, lowerBound + (i + 1) * bucketWidth)}.
+ */
+public record Histogram(int lowerBound, int bucketWidth, long underflow, List<Long> counts, long overflow) {}
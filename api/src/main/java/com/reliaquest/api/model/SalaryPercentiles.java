@@ -0,0 +1,8 @@
+package com.reliaquest.api.model;
+
+import java.util.Map;
+
+/**
+ * Estimated salaries by quantile, each within {@code relativeAccuracy} of the exact value.
+ */
+public record SalaryPercentiles(long count, double relativeAccuracy, Map<Double, Long> percentiles) {}
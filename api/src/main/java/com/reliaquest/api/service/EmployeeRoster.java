@@ -0,0 +1,324 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.client.EmployeeClient;
+import com.reliaquest.api.jfr.RosterRefreshEvent;
+import com.reliaquest.api.model.Employee;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientException;
+import reactor.core.Exceptions;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Versioned view of the upstream roster.
+ * <p>
+ * Every fetch is compared with the previous snapshot and only gets a new version when the content differs, so the
+ * version identifies the roster's content and can key caches and ETags even when {@code api.roster.max-age} is zero
+ * and the roster is refetched on every request. Only a roster that differs is diffed by id, and the new version
+ * derives its {@link RosterIndex} by applying just the {@link RosterChanges}. Within {@code max-age} the last snapshot
+ * is reused; creates and deletes made through this API invalidate it immediately. A request can pin the snapshot it
+ * started with so that everything it computes, and the version it is cached under, come from the same roster.
+ * <p>
+ * When upstream fails a refresh, the previous snapshot keeps being served unless a write through this API has
+ * invalidated it. Deadline and upstream queue rejections are the request's own failures and are not masked.
+ * <p>
+ * A snapshot {@link #restore restored} from a previous run is served as-is while a background fetch revalidates it,
+ * so a restart does not send its first wave of traffic upstream. Readers that tolerate a slightly older roster, such
+ * as the statistics, use {@link #recent()} to get the same treatment after {@code max-age}: the last snapshot is
+ * returned right away and a single background fetch replaces it.
+ */
+@Slf4j
+@Component
+public class EmployeeRoster {
+
+    private static final Duration STALE_WARNING_INTERVAL = Duration.ofSeconds(30);
+
+    private final EmployeeClient employeeClient;
+    private final long maxAgeNanos;
+    private final ThreadLocal<Snapshot> pinned = new ThreadLocal<>();
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+    private final AtomicLong lastStaleWarningNanos = new AtomicLong();
+    private final LongAdder suppressedStaleWarnings = new LongAdder();
+
+    private volatile Cached cached;
+    private long version;
+    private long generation;
+
+    public EmployeeRoster(EmployeeClient employeeClient, @Value("${api.roster.max-age:0s}") Duration maxAge) {
+        this.employeeClient = employeeClient;
+        this.maxAgeNanos = maxAge.toNanos();
+    }
+
+    /**
+     * The snapshot pinned by the calling thread, otherwise the cached snapshot while it is fresh, otherwise a newly
+     * fetched one.
+     */
+    public Snapshot current() {
+        Snapshot snapshot = pinned.get();
+        return snapshot != null ? snapshot : fresh();
+    }
+
+    /**
+     * The snapshot pinned by the calling thread, otherwise the last snapshot even when it is older than
+     * {@code max-age}, in which case a background fetch refreshes it. Only the first read, and the first read after a
+     * write through this API, wait for upstream.
+     */
+    public Snapshot recent() {
+        Snapshot snapshot = pinned.get();
+        return snapshot != null ? snapshot : recentOrFresh();
+    }
+
+    /**
+     * Makes {@link #current()} return the same snapshot on this thread until {@link #unpin()}.
+     */
+    public Snapshot pin() {
+        Snapshot snapshot = fresh();
+        pinned.set(snapshot);
+        return snapshot;
+    }
+
+    /**
+     * {@link #pin()} with the snapshot {@link #recent()} would return.
+     */
+    public Snapshot pinRecent() {
+        Snapshot snapshot = recentOrFresh();
+        pinned.set(snapshot);
+        return snapshot;
+    }
+
+    public void unpin() {
+        pinned.remove();
+    }
+
+    /**
+     * Forces the next read to refetch; called after the roster was changed through this API.
+     */
+    public synchronized void invalidate() {
+        generation++;
+        if (cached != null) {
+            cached = new Cached(cached.snapshot(), cached.fetchedAtNanos(), false, false);
+        }
+    }
+
+    /**
+     * Serves the given snapshot, saved by an earlier run, until a fetch from upstream replaces it; the first fetch
+     * starts right away in the background. Ignored once a roster has been fetched.
+     */
+    public void restore(Snapshot snapshot) {
+        synchronized (this) {
+            if (cached != null) {
+                return;
+            }
+            version = Math.max(version, snapshot.version());
+            cached = new Cached(snapshot, System.nanoTime(), false, true);
+        }
+        refreshInBackground(cached);
+    }
+
+    /**
+     * The last snapshot fetched from upstream, without fetching; {@code null} before the first fetch.
+     */
+    public Snapshot lastFetched() {
+        Cached current = cached;
+        return current == null || current.restored() ? null : current.snapshot();
+    }
+
+    private Snapshot fresh() {
+        Cached current = cached;
+        if (current != null && current.valid() && System.nanoTime() - current.fetchedAtNanos() < maxAgeNanos) {
+            return current.snapshot();
+        }
+        if (current != null && current.restored()) {
+            refreshInBackground(current);
+            return current.snapshot();
+        }
+        try {
+            return fetch();
+        } catch (RuntimeException e) {
+            // Nothing of a failed refresh has been published, so the previous roster is still whole. A roster
+            // invalidated by a write through this API is not: serving it would hide that write from its author.
+            Cached previous = cached;
+            if (previous == null || !previous.valid() || !isUpstreamFailure(e)) {
+                throw e;
+            }
+            warnServingStale(previous.snapshot(), e);
+            return previous.snapshot();
+        }
+    }
+
+    private Snapshot recentOrFresh() {
+        Cached current = cached;
+        if (current == null || !(current.valid() || current.restored())) {
+            return fresh();
+        }
+        if (current.restored() || System.nanoTime() - current.fetchedAtNanos() >= maxAgeNanos) {
+            refreshInBackground(current);
+        }
+        return current.snapshot();
+    }
+
+    /**
+     * Upstream errors, unreachable shards and exhausted 429 retries; deadline and queue-full failures are the
+     * request's own and keep their status.
+     */
+    private static boolean isUpstreamFailure(RuntimeException e) {
+        return e instanceof WebClientException || Exceptions.isRetryExhausted(e);
+    }
+
+    /**
+     * Warns at most once per {@link #STALE_WARNING_INTERVAL} during an outage, counting the failures in between.
+     */
+    private void warnServingStale(Snapshot previous, RuntimeException e) {
+        long now = System.nanoTime();
+        long last = lastStaleWarningNanos.get();
+        if (last != 0 && now - last < STALE_WARNING_INTERVAL.toNanos()) {
+            suppressedStaleWarnings.increment();
+            log.debug("Refreshing roster failed, still serving version {}: {}", previous.version(), e.getMessage());
+            return;
+        }
+        if (lastStaleWarningNanos.compareAndSet(last, now)) {
+            log.warn(
+                    "Refreshing roster failed, still serving version {} ({} more failures since the last warning): {}",
+                    previous.version(),
+                    suppressedStaleWarnings.sumThenReset(),
+                    e.getMessage());
+        }
+    }
+
+    /**
+     * Fetches in the background unless a background fetch is already running.
+     */
+    private void refreshInBackground(Cached serving) {
+        if (!refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        Schedulers.boundedElastic().schedule(() -> {
+            try {
+                Snapshot snapshot = fetch();
+                if (serving.restored()) {
+                    log.info("Revalidated restored roster, now at version {}", snapshot.version());
+                } else {
+                    log.debug("Refreshed roster in the background, now at version {}", snapshot.version());
+                }
+            } catch (RuntimeException e) {
+                warnServingStale(serving.snapshot(), e);
+            } finally {
+                refreshing.set(false);
+            }
+        });
+    }
+
+    private Snapshot fetch() {
+        long generationAtStart;
+        synchronized (this) {
+            generationAtStart = generation;
+        }
+        RosterRefreshEvent event = new RosterRefreshEvent();
+        event.begin();
+        long fetchedAtNanos = System.nanoTime();
+        List<List<Employee>> shards = Objects.requireNonNull(EmployeeClient.await(employeeClient.getAllByShard()));
+        Snapshot snapshot = publish(shards, generationAtStart, fetchedAtNanos, event);
+        event.commit();
+        return snapshot;
+    }
+
+    private synchronized Snapshot publish(
+            List<List<Employee>> shards, long generationAtStart, long fetchedAtNanos, RosterRefreshEvent event) {
+        if (cached != null && cached.fetchedAtNanos() > fetchedAtNanos) {
+            // An overlapping fetch that started later has already published; this roster may be older than what was
+            // served, and publishing it would give old content a new version.
+            Snapshot newer = cached.snapshot();
+            event.version = newer.version();
+            event.employees = newer.employees().size();
+            return newer;
+        }
+        Snapshot previous = cached == null ? null : cached.snapshot();
+        Snapshot snapshot;
+        if (previous == null) {
+            snapshot = Snapshot.of(++version, shards);
+        } else if (previous.shards().equals(shards)) {
+            // The common case when max-age is zero; a plain list comparison, no index lookups.
+            snapshot = previous;
+        } else {
+            List<Employee> employees = Snapshot.concat(shards);
+            snapshot = previous.next(++version, shards, employees, RosterChanges.between(previous.index(), employees));
+        }
+        // A fetch that overlapped an invalidation may predate the change, so it is served but not cached.
+        if (generation == generationAtStart) {
+            cached = new Cached(snapshot, fetchedAtNanos, true, false);
+        } else if (cached == null) {
+            cached = new Cached(snapshot, fetchedAtNanos, false, false);
+        }
+        event.version = snapshot.version();
+        event.employees = snapshot.employees().size();
+        event.changed = snapshot != previous;
+        event.changes = snapshot == previous ? 0 : snapshot.changes().size();
+        event.cached = generation == generationAtStart;
+        return snapshot;
+    }
+
+    /**
+     * Equal by {@code version} and {@code shards}: the rest is derived from them or, like {@code changes}, records how
+     * the snapshot was reached rather than what it holds.
+     *
+     * @param shards one list per upstream shard, in shard order
+     * @param employees all shards concatenated
+     * @param index lookups over {@code employees}
+     * @param previousVersion the version {@code changes} are relative to, or {@code -1} for a roster built from scratch
+     * @param changes what changed since {@code previousVersion}
+     */
+    public record Snapshot(
+            long version,
+            List<List<Employee>> shards,
+            List<Employee> employees,
+            RosterIndex index,
+            long previousVersion,
+            RosterChanges changes) {
+
+        static Snapshot of(long version, List<List<Employee>> shards) {
+            List<Employee> employees = concat(shards);
+            return new Snapshot(
+                    version,
+                    shards,
+                    employees,
+                    RosterIndex.of(employees),
+                    -1,
+                    new RosterChanges(employees, List.of(), List.of()));
+        }
+
+        /**
+         * The version after this one, with the index updated by applying only the changes.
+         */
+        Snapshot next(long version, List<List<Employee>> shards, List<Employee> employees, RosterChanges changes) {
+            return new Snapshot(version, shards, employees, index.apply(changes), this.version, changes);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof Snapshot snapshot && version == snapshot.version && shards.equals(snapshot.shards);
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(version) * 31 + shards.hashCode();
+        }
+
+        static List<Employee> concat(List<List<Employee>> shards) {
+            return shards.size() == 1
+                    ? shards.get(0)
+                    : shards.stream().flatMap(List::stream).toList();
+        }
+    }
+
+    /**
+     * @param restored loaded from a previous run and not yet revalidated
+     */
+    private record Cached(Snapshot snapshot, long fetchedAtNanos, boolean valid, boolean restored) {}
+}
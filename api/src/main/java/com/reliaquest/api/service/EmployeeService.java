@@ -3,7 +3,9 @@ package com.reliaquest.api.service;
 import com.reliaquest.api.client.EmployeeClient;
 import com.reliaquest.api.model.Employee;
 import com.reliaquest.api.model.EmployeeInput;
+import com.reliaquest.api.web.RequestTiming;
 import java.util.*;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -15,59 +17,61 @@ import org.springframework.stereotype.Service;
 public class EmployeeService {
 
     private final EmployeeClient employeeClient;
+    private final EmployeeRoster employeeRoster;
 
     public List<Employee> getAll() {
         log.debug("fetching all employee");
-        return employeeClient.getAll().block();
+        return employeeRoster.current().employees();
     }
 
     public List<Employee> getByNameSearch(String name) {
         log.debug("Searching employee by name {}", name);
-        return getAll().stream()
-                .filter(employee -> employee.employee_name().toLowerCase().contains(name.toLowerCase(Locale.ROOT)))
-                .collect(Collectors.toList());
+        return Objects.requireNonNullElse(EmployeeClient.await(employeeClient.findByName(name)), List.of());
     }
 
     public Employee getById(String id) {
         log.debug("Getting employee by id {}", id);
-        return employeeClient.getById(id).block();
+        return EmployeeClient.await(employeeClient.getById(id));
     }
 
     public Optional<Integer> getHighestSalary() {
         log.debug("Getting Highest Salary");
-        return getAll().stream().map(Employee::employee_salary).max(Integer::compareTo);
+        RosterIndex index = employeeRoster.current().index();
+        return compute(index::highestSalary);
     }
 
+    /**
+     * Names of the {@code limit} best-paid employees, read off the roster's salary index; equal salaries keep roster
+     * order.
+     */
     public List<String> highestEarningEmployeeName(int limit) {
         log.debug("Getting top {} earning employee name", limit);
-        return getAll().stream()
-                .sorted(Comparator.comparing(Employee::employee_salary).reversed())
-                .limit(limit)
-                .map(Employee::employee_name)
-                .collect(Collectors.toList());
+        RosterIndex index = employeeRoster.current().index();
+        return compute(() ->
+                index.topEarners(limit).stream().map(Employee::employee_name).collect(Collectors.toList()));
+    }
+
+    private static <T> T compute(Supplier<T> work) {
+        long start = System.nanoTime();
+        T result = work.get();
+        RequestTiming.current().add(RequestTiming.Phase.COMPUTE, System.nanoTime() - start);
+        return result;
     }
 
     public Employee create(EmployeeInput employeeInput) {
         log.debug("creating employee {}", employeeInput);
-        return Objects.requireNonNull(employeeClient.create(employeeInput).block());
+        Employee employee = Objects.requireNonNull(EmployeeClient.await(employeeClient.create(employeeInput)));
+        employeeRoster.invalidate();
+        return employee;
     }
 
     public Optional<String> deleteById(String id) {
         log.debug("deleting employee {}", id);
-        Employee employee = getById(id);
-        if (employee != null) {
-            Boolean status = employeeClient
-                    .delete(new EmployeeInput(employee.employee_name()))
-                    .block();
-            if (Boolean.TRUE.equals(status)) {
-                log.info("Successfully deleted employee: {}", employee.employee_name());
-                return Optional.of(employee.employee_name());
-            } else {
-                log.warn("Failed to delete employee: {}", employee.employee_name());
-            }
-        } else {
-            log.warn("No employee with id: {}", id);
+        Employee employee = EmployeeClient.await(employeeClient.deleteById(id));
+        if (employee == null) {
+            return Optional.empty();
         }
-        return Optional.empty();
+        employeeRoster.invalidate();
+        return Optional.of(employee.employee_name());
     }
 }
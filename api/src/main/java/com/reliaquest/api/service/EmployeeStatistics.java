@@ -0,0 +1,134 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.Histogram;
+import com.reliaquest.api.model.SalaryPercentiles;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Salary quantile sketch and salary/age histograms for the current roster. They are kept per roster version: when a
+ * new version shows up, the previous one's sketches are copied and updated with just the employees in its
+ * {@link RosterChanges}, so queries never touch the roster itself.
+ * <p>
+ * Queries read the {@link EmployeeRoster#recent() recent} roster: once it is older than {@code api.roster.max-age} it
+ * is still used while a background fetch replaces it, so a query waits for upstream only before the first fetch and
+ * after a write through this API. The background fetch still transfers and compares the whole roster, and the next
+ * query after a changed roster pays for applying its changeset.
+ */
+@Slf4j
+@Component
+public class EmployeeStatistics {
+
+    private final EmployeeRoster employeeRoster;
+
+    private volatile Aggregates current;
+
+    public EmployeeStatistics(
+            EmployeeRoster employeeRoster,
+            @Value("${api.stats.relative-accuracy:0.01}") double relativeAccuracy,
+            @Value("${api.stats.salary-histogram.bucket-width:25000}") int salaryBucketWidth,
+            @Value("${api.stats.salary-histogram.buckets:20}") int salaryBuckets,
+            @Value("${api.stats.age-histogram.bucket-width:5}") int ageBucketWidth,
+            @Value("${api.stats.age-histogram.buckets:20}") int ageBuckets) {
+        this.employeeRoster = employeeRoster;
+        this.current = new Aggregates(
+                -1,
+                RosterIndex.empty(),
+                new QuantileSketch(relativeAccuracy),
+                new FixedHistogram(0, salaryBucketWidth, salaryBuckets),
+                new FixedHistogram(0, ageBucketWidth, ageBuckets));
+    }
+
+    /**
+     * Estimated salary at each quantile, or empty when the roster is empty.
+     */
+    public Optional<SalaryPercentiles> getSalaryPercentiles(List<Double> quantiles) {
+        QuantileSketch salaries = aggregates().salaries();
+        if (salaries.count() == 0) {
+            return Optional.empty();
+        }
+        Map<Double, Long> percentiles = new LinkedHashMap<>();
+        quantiles.forEach(quantile -> percentiles.put(quantile, salaries.quantile(quantile)));
+        return Optional.of(new SalaryPercentiles(salaries.count(), salaries.relativeAccuracy(), percentiles));
+    }
+
+    public Histogram getSalaryHistogram() {
+        return aggregates().salaryHistogram().toHistogram();
+    }
+
+    public Histogram getAgeHistogram() {
+        return aggregates().ageHistogram().toHistogram();
+    }
+
+    private Aggregates aggregates() {
+        EmployeeRoster.Snapshot snapshot = employeeRoster.recent();
+        Aggregates aggregates = current;
+        if (aggregates.version() == snapshot.version()) {
+            return aggregates;
+        }
+        synchronized (this) {
+            aggregates = current;
+            if (aggregates.version() != snapshot.version()) {
+                aggregates = aggregates.updatedTo(snapshot);
+                current = aggregates;
+            }
+            return aggregates;
+        }
+    }
+
+    /**
+     * @param index the roster these aggregates were computed from, kept to diff against when versions were skipped
+     */
+    private record Aggregates(
+            long version,
+            RosterIndex index,
+            QuantileSketch salaries,
+            FixedHistogram salaryHistogram,
+            FixedHistogram ageHistogram) {
+
+        /**
+         * Applies the snapshot's own changeset when it is relative to this version, otherwise diffs against it.
+         */
+        Aggregates updatedTo(EmployeeRoster.Snapshot snapshot) {
+            Aggregates next = new Aggregates(
+                    snapshot.version(), snapshot.index(), salaries.copy(), salaryHistogram.copy(), ageHistogram.copy());
+            RosterChanges changes = snapshot.previousVersion() == version
+                    ? snapshot.changes()
+                    : RosterChanges.between(index, snapshot.employees());
+            changes.removed().forEach(next::remove);
+            for (RosterChanges.Update update : changes.updated()) {
+                next.remove(update.before());
+                next.add(update.after());
+            }
+            changes.added().forEach(next::add);
+            log.debug("Updated roster statistics to version {} with {} changes", snapshot.version(), changes.size());
+            return next;
+        }
+
+        private void add(Employee employee) {
+            if (employee.employee_salary() != null) {
+                salaries.add(employee.employee_salary());
+                salaryHistogram.add(employee.employee_salary());
+            }
+            if (employee.employee_age() != null) {
+                ageHistogram.add(employee.employee_age());
+            }
+        }
+
+        private void remove(Employee employee) {
+            if (employee.employee_salary() != null) {
+                salaries.remove(employee.employee_salary());
+                salaryHistogram.remove(employee.employee_salary());
+            }
+            if (employee.employee_age() != null) {
+                ageHistogram.remove(employee.employee_age());
+            }
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.model.Histogram;
+import java.util.Arrays;
+
+/**
+ * Exact counts in equal-width buckets starting at {@code lowerBound}, plus underflow and overflow buckets.
+ */
+public final class FixedHistogram {
+
+    private final int lowerBound;
+    private final int bucketWidth;
+    private final long[] counts;
+    private long underflow;
+    private long overflow;
+
+    public FixedHistogram(int lowerBound, int bucketWidth, int buckets) {
+        if (bucketWidth <= 0 || buckets <= 0) {
+            throw new IllegalArgumentException("Histogram needs a positive bucket width and count");
+        }
+        this.lowerBound = lowerBound;
+        this.bucketWidth = bucketWidth;
+        this.counts = new long[buckets];
+    }
+
+    private FixedHistogram(FixedHistogram other) {
+        this.lowerBound = other.lowerBound;
+        this.bucketWidth = other.bucketWidth;
+        this.counts = other.counts.clone();
+        this.underflow = other.underflow;
+        this.overflow = other.overflow;
+    }
+
+    public FixedHistogram copy() {
+        return new FixedHistogram(this);
+    }
+
+    public void add(int value) {
+        update(value, 1);
+    }
+
+    public void remove(int value) {
+        update(value, -1);
+    }
+
+    public Histogram toHistogram() {
+        return new Histogram(
+                lowerBound,
+                bucketWidth,
+                underflow,
+                Arrays.stream(counts).boxed().toList(),
+                overflow);
+    }
+
+    private void update(int value, int delta) {
+        long offset = (long) value - lowerBound;
+        if (offset < 0) {
+            underflow += delta;
+        } else if (offset / bucketWidth >= counts.length) {
+            overflow += delta;
+        } else {
+            counts[(int) (offset / bucketWidth)] += delta;
+        }
+    }
+}
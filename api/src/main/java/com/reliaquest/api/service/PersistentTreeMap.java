@@ -0,0 +1,191 @@
+package com.reliaquest.api.service;
+
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Immutable sorted map backed by an AVL tree.
+ * <p>
+ * Updates copy only the O(log n) nodes on the path to the changed key and share every other node with the previous
+ * version, so each roster version can be derived from the last one while requests keep reading the old one.
+ */
+final class PersistentTreeMap<K, V> {
+
+    private final Comparator<? super K> comparator;
+    private final Node<K, V> root;
+
+    private PersistentTreeMap(Comparator<? super K> comparator, Node<K, V> root) {
+        this.comparator = comparator;
+        this.root = root;
+    }
+
+    static <K extends Comparable<? super K>, V> PersistentTreeMap<K, V> empty() {
+        return new PersistentTreeMap<>(Comparator.naturalOrder(), null);
+    }
+
+    static <K, V> PersistentTreeMap<K, V> empty(Comparator<? super K> comparator) {
+        return new PersistentTreeMap<>(comparator, null);
+    }
+
+    int size() {
+        return size(root);
+    }
+
+    /**
+     * Nodes on the longest path from the root; at most about 1.44 log2(n + 2) while the tree is balanced.
+     */
+    int height() {
+        return height(root);
+    }
+
+    V get(K key) {
+        Node<K, V> node = root;
+        while (node != null) {
+            int compared = comparator.compare(key, node.key);
+            if (compared == 0) {
+                return node.value;
+            }
+            node = compared < 0 ? node.left : node.right;
+        }
+        return null;
+    }
+
+    PersistentTreeMap<K, V> put(K key, V value) {
+        return new PersistentTreeMap<>(comparator, put(root, key, value));
+    }
+
+    PersistentTreeMap<K, V> remove(K key) {
+        Node<K, V> updated = remove(root, key);
+        return updated == root ? this : new PersistentTreeMap<>(comparator, updated);
+    }
+
+    /**
+     * Values in ascending key order.
+     */
+    Iterator<V> values() {
+        return new ValueIterator<>(root);
+    }
+
+    private Node<K, V> put(Node<K, V> node, K key, V value) {
+        if (node == null) {
+            return new Node<>(key, value, null, null);
+        }
+        int compared = comparator.compare(key, node.key);
+        if (compared == 0) {
+            return new Node<>(key, value, node.left, node.right);
+        }
+        return compared < 0
+                ? balance(node.key, node.value, put(node.left, key, value), node.right)
+                : balance(node.key, node.value, node.left, put(node.right, key, value));
+    }
+
+    private Node<K, V> remove(Node<K, V> node, K key) {
+        if (node == null) {
+            return null;
+        }
+        int compared = comparator.compare(key, node.key);
+        if (compared < 0) {
+            Node<K, V> left = remove(node.left, key);
+            return left == node.left ? node : balance(node.key, node.value, left, node.right);
+        }
+        if (compared > 0) {
+            Node<K, V> right = remove(node.right, key);
+            return right == node.right ? node : balance(node.key, node.value, node.left, right);
+        }
+        if (node.left == null) {
+            return node.right;
+        }
+        if (node.right == null) {
+            return node.left;
+        }
+        Node<K, V> successor = node.right;
+        while (successor.left != null) {
+            successor = successor.left;
+        }
+        return balance(successor.key, successor.value, node.left, remove(node.right, successor.key));
+    }
+
+    private static <K, V> Node<K, V> balance(K key, V value, Node<K, V> left, Node<K, V> right) {
+        int difference = height(left) - height(right);
+        if (difference > 1) {
+            if (height(left.left) < height(left.right)) {
+                left = rotateLeft(left.key, left.value, left.left, left.right);
+            }
+            return rotateRight(key, value, left, right);
+        }
+        if (difference < -1) {
+            if (height(right.right) < height(right.left)) {
+                right = rotateRight(right.key, right.value, right.left, right.right);
+            }
+            return rotateLeft(key, value, left, right);
+        }
+        return new Node<>(key, value, left, right);
+    }
+
+    private static <K, V> Node<K, V> rotateRight(K key, V value, Node<K, V> left, Node<K, V> right) {
+        return new Node<>(left.key, left.value, left.left, new Node<>(key, value, left.right, right));
+    }
+
+    private static <K, V> Node<K, V> rotateLeft(K key, V value, Node<K, V> left, Node<K, V> right) {
+        return new Node<>(right.key, right.value, new Node<>(key, value, left, right.left), right.right);
+    }
+
+    private static int height(Node<?, ?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private static int size(Node<?, ?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static final class Node<K, V> {
+        private final K key;
+        private final V value;
+        private final Node<K, V> left;
+        private final Node<K, V> right;
+        private final int height;
+        private final int size;
+
+        private Node(K key, V value, Node<K, V> left, Node<K, V> right) {
+            this.key = key;
+            this.value = value;
+            this.left = left;
+            this.right = right;
+            this.height = Math.max(height(left), height(right)) + 1;
+            this.size = size(left) + size(right) + 1;
+        }
+    }
+
+    private static final class ValueIterator<K, V> implements Iterator<V> {
+        private final Deque<Node<K, V>> path = new ArrayDeque<>();
+
+        private ValueIterator(Node<K, V> root) {
+            descendLeft(root);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !path.isEmpty();
+        }
+
+        @Override
+        public V next() {
+            if (path.isEmpty()) {
+                throw new NoSuchElementException();
+            }
+            Node<K, V> node = path.pop();
+            descendLeft(node.right);
+            return node.value;
+        }
+
+        private void descendLeft(Node<K, V> node) {
+            while (node != null) {
+                path.push(node);
+                node = node.left;
+            }
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.reliaquest.api.service;
+
+/**
+ * Quantile sketch over non-negative ints with a relative error guarantee, after DDSketch.
+ * <p>
+ * Values are counted in logarithmic buckets {@code (γ^(i-1), γ^i]} with {@code γ = (1 + α) / (1 - α)}; a quantile
+ * is answered with the bucket's midpoint {@code 2γ^i / (γ + 1)}, which is within relative error {@code α} of the true
+ * value at that rank (before rounding to a whole number). The bucket array covers the whole int range, so memory is
+ * fixed, about 1,100 longs at α = 1%, however many values are added, and a query is one pass over it. Unlike
+ * t-digest or KLL sketches, values can also be removed, which lets the sketch follow roster changes incrementally.
+ */
+public final class QuantileSketch {
+
+    private final double relativeAccuracy;
+    private final double gamma;
+    private final double logGamma;
+    private final long[] counts;
+    private long zeroCount;
+    private long count;
+
+    public QuantileSketch(double relativeAccuracy) {
+        if (relativeAccuracy <= 0 || relativeAccuracy >= 1) {
+            throw new IllegalArgumentException("Relative accuracy must be between 0 and 1: " + relativeAccuracy);
+        }
+        this.relativeAccuracy = relativeAccuracy;
+        this.gamma = (1 + relativeAccuracy) / (1 - relativeAccuracy);
+        this.logGamma = Math.log(gamma);
+        this.counts = new long[index(Integer.MAX_VALUE) + 1];
+    }
+
+    private QuantileSketch(QuantileSketch other) {
+        this.relativeAccuracy = other.relativeAccuracy;
+        this.gamma = other.gamma;
+        this.logGamma = other.logGamma;
+        this.counts = other.counts.clone();
+        this.zeroCount = other.zeroCount;
+        this.count = other.count;
+    }
+
+    public QuantileSketch copy() {
+        return new QuantileSketch(this);
+    }
+
+    public void add(int value) {
+        if (value < 1) {
+            zeroCount++;
+        } else {
+            counts[index(value)]++;
+        }
+        count++;
+    }
+
+    /**
+     * Removes one occurrence of a value that was added before.
+     */
+    public void remove(int value) {
+        if (value < 1) {
+            zeroCount--;
+        } else {
+            counts[index(value)]--;
+        }
+        count--;
+    }
+
+    public long count() {
+        return count;
+    }
+
+    public double relativeAccuracy() {
+        return relativeAccuracy;
+    }
+
+    /**
+     * Estimated value at quantile {@code q} (0 = minimum, 1 = maximum) of a non-empty sketch.
+     */
+    public long quantile(double q) {
+        if (count == 0) {
+            throw new IllegalStateException("Empty sketch");
+        }
+        long rank = (long) Math.floor(q * (count - 1));
+        long seen = zeroCount;
+        if (rank < seen) {
+            return 0;
+        }
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (rank < seen) {
+                return Math.round(2 * Math.pow(gamma, i) / (gamma + 1));
+            }
+        }
+        throw new IllegalStateException("Sketch counts are inconsistent");
+    }
+
+    private int index(int value) {
+        return (int) Math.ceil(Math.log(value) / logGamma);
+    }
+}
@@ -0,0 +1,58 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.model.Employee;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Employees added, removed and changed between two roster versions, matched by id.
+ */
+record RosterChanges(List<Employee> added, List<Employee> removed, List<Update> updated) {
+
+    /**
+     * @param before the employee as it was in the previous version
+     * @param after the same employee, by id, in the new version
+     */
+    record Update(Employee before, Employee after) {}
+
+    /**
+     * Compares the employees of a new roster with the indexed previous version. Costs one index lookup per employee;
+     * the ids of the new roster are only collected when some previous employee is missing from it.
+     */
+    static RosterChanges between(RosterIndex previous, List<Employee> employees) {
+        List<Employee> added = new ArrayList<>();
+        List<Update> updated = new ArrayList<>();
+        int matched = 0;
+        for (Employee employee : employees) {
+            Employee before = previous.get(employee.id());
+            if (before == null) {
+                added.add(employee);
+            } else {
+                matched++;
+                if (!before.equals(employee)) {
+                    updated.add(new Update(before, employee));
+                }
+            }
+        }
+        List<Employee> removed = new ArrayList<>();
+        if (matched < previous.size()) {
+            Set<UUID> ids = new HashSet<>(employees.size() * 2);
+            employees.forEach(employee -> ids.add(employee.id()));
+            for (Iterator<Employee> it = previous.employees(); it.hasNext(); ) {
+                Employee employee = it.next();
+                if (!ids.contains(employee.id())) {
+                    removed.add(employee);
+                }
+            }
+        }
+        return new RosterChanges(List.copyOf(added), List.copyOf(removed), List.copyOf(updated));
+    }
+
+    int size() {
+        return added.size() + removed.size() + updated.size();
+    }
+}
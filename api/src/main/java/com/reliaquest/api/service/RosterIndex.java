@@ -0,0 +1,107 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.model.Employee;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Lookups derived from one roster version: employees by id and by salary, highest first. Both are persistent trees,
+ * so the next version is built by applying a {@link RosterChanges} to this one and shares every untouched node.
+ * <p>
+ * Each employee keeps the sequence number it was first indexed with, and equal salaries are ordered by it. A new
+ * roster is indexed in roster order, so ties come out in roster order as a stable sort would list them.
+ */
+record RosterIndex(
+        long nextSequence, PersistentTreeMap<UUID, Entry> byId, PersistentTreeMap<Entry, Employee> bySalary) {
+
+    private static final Comparator<Entry> BY_SALARY_DESC = Comparator.comparing(
+                    (Entry entry) -> entry.employee().employee_salary(),
+                    Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparingLong(Entry::sequence);
+
+    record Entry(Employee employee, long sequence) {}
+
+    static RosterIndex empty() {
+        return new RosterIndex(0, PersistentTreeMap.empty(), PersistentTreeMap.empty(BY_SALARY_DESC));
+    }
+
+    static RosterIndex of(List<Employee> employees) {
+        return empty().apply(new RosterChanges(employees, List.of(), List.of()));
+    }
+
+    Employee get(UUID id) {
+        Entry entry = byId.get(id);
+        return entry == null ? null : entry.employee();
+    }
+
+    int size() {
+        return byId.size();
+    }
+
+    /**
+     * All employees, in id order.
+     */
+    Iterator<Employee> employees() {
+        Iterator<Entry> entries = byId.values();
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return entries.hasNext();
+            }
+
+            @Override
+            public Employee next() {
+                return entries.next().employee();
+            }
+        };
+    }
+
+    Optional<Integer> highestSalary() {
+        Iterator<Employee> bySalary = this.bySalary.values();
+        return bySalary.hasNext() ? Optional.ofNullable(bySalary.next().employee_salary()) : Optional.empty();
+    }
+
+    /**
+     * Up to {@code limit} employees with the highest salaries, highest first.
+     */
+    List<Employee> topEarners(int limit) {
+        List<Employee> top = new ArrayList<>(Math.min(limit, size()));
+        Iterator<Employee> bySalary = this.bySalary.values();
+        while (top.size() < limit && bySalary.hasNext()) {
+            top.add(bySalary.next());
+        }
+        return top;
+    }
+
+    RosterIndex apply(RosterChanges changes) {
+        PersistentTreeMap<UUID, Entry> byId = this.byId;
+        PersistentTreeMap<Entry, Employee> bySalary = this.bySalary;
+        long nextSequence = this.nextSequence;
+        for (Employee employee : changes.removed()) {
+            Entry entry = byId.get(employee.id());
+            if (entry != null) {
+                byId = byId.remove(employee.id());
+                bySalary = bySalary.remove(entry);
+            }
+        }
+        for (RosterChanges.Update update : changes.updated()) {
+            Entry before = byId.get(update.before().id());
+            Entry after = new Entry(update.after(), before == null ? nextSequence++ : before.sequence());
+            if (before != null) {
+                bySalary = bySalary.remove(before);
+            }
+            byId = byId.put(after.employee().id(), after);
+            bySalary = bySalary.put(after, after.employee());
+        }
+        for (Employee employee : changes.added()) {
+            Entry entry = new Entry(employee, nextSequence++);
+            byId = byId.put(employee.id(), entry);
+            bySalary = bySalary.put(entry, employee);
+        }
+        return new RosterIndex(nextSequence, byId, bySalary);
+    }
+}
@@ -0,0 +1,242 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.client.EmployeeClient;
+import com.reliaquest.api.model.Employee;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Saves the last roster fetched from upstream to a local file and restores it on the next start, so a restarted
+ * service answers from that roster at once instead of sending its first wave of traffic upstream.
+ * <p>
+ * The file is written to a temporary sibling and atomically moved into place, so a crash never leaves a torn file. It
+ * starts with a format version and a fingerprint of the configured shard URLs, and ends with a CRC32; a file from
+ * another format, another upstream or with a bad checksum is ignored. Employees are stored per shard, which also
+ * restores the client's knowledge of where each id lives.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "api.roster.snapshot.enabled", havingValue = "true", matchIfMissing = true)
+public class RosterSnapshotStore implements ApplicationRunner, DisposableBean {
+
+    private static final int MAGIC = 0x45524F53;
+    private static final int FORMAT_VERSION = 1;
+    private static final int NULL = -1;
+
+    private final EmployeeRoster employeeRoster;
+    private final EmployeeClient employeeClient;
+    private final Path path;
+    private final Duration interval;
+    private final long upstreamFingerprint;
+
+    private Disposable saving;
+    private long savedVersion = -1;
+
+    public RosterSnapshotStore(
+            EmployeeRoster employeeRoster,
+            EmployeeClient employeeClient,
+            @Value("${api.roster.snapshot.path:${java.io.tmpdir}/employee-api/roster.snapshot}") Path path,
+            @Value("${api.roster.snapshot.interval:30s}") Duration interval,
+            @Value("${api.shards.urls:${api.base-url}}") List<String> shardUrls) {
+        this.employeeRoster = employeeRoster;
+        this.employeeClient = employeeClient;
+        this.path = path.toAbsolutePath();
+        this.interval = interval;
+        CRC32 fingerprint = new CRC32();
+        shardUrls.forEach(url -> fingerprint.update(url.trim().getBytes(StandardCharsets.UTF_8)));
+        this.upstreamFingerprint = fingerprint.getValue();
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long start = System.nanoTime();
+        read().ifPresent(snapshot -> {
+            employeeClient.rememberShards(snapshot.shards());
+            employeeRoster.restore(snapshot);
+            savedVersion = snapshot.version();
+            log.info(
+                    "Restored roster version {} with {} employees from {} in {} ms",
+                    snapshot.version(),
+                    snapshot.employees().size(),
+                    path,
+                    Duration.ofNanos(System.nanoTime() - start).toMillis());
+        });
+        saving = Schedulers.boundedElastic()
+                .schedulePeriodically(this::save, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void destroy() {
+        if (saving != null) {
+            saving.dispose();
+        }
+        save();
+    }
+
+    /**
+     * Writes the last fetched roster unless it is the version already on disk. Never throws, since a failure would end
+     * the periodic saving for the rest of the run.
+     */
+    synchronized void save() {
+        EmployeeRoster.Snapshot snapshot = employeeRoster.lastFetched();
+        if (snapshot == null || snapshot.version() == savedVersion) {
+            return;
+        }
+        try {
+            write(snapshot);
+            savedVersion = snapshot.version();
+            log.debug("Saved roster version {} to {}", snapshot.version(), path);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Could not save roster snapshot to {}: {}", path, e.toString());
+        }
+    }
+
+    Optional<EmployeeRoster.Snapshot> read() {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return Optional.ofNullable(decode(buffer));
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        } catch (IOException | RuntimeException e) {
+            log.warn("Ignoring unreadable roster snapshot {}: {}", path, e.toString());
+            return Optional.empty();
+        }
+    }
+
+    void write(EmployeeRoster.Snapshot snapshot) throws IOException {
+        ByteArrayOutputStream bytes =
+                new ByteArrayOutputStream(64 + snapshot.employees().size() * 96);
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(MAGIC);
+        out.writeInt(FORMAT_VERSION);
+        out.writeLong(upstreamFingerprint);
+        out.writeLong(snapshot.version());
+        out.writeInt(snapshot.shards().size());
+        for (List<Employee> shard : snapshot.shards()) {
+            out.writeInt(shard.size());
+            for (Employee employee : shard) {
+                out.writeLong(employee.id().getMostSignificantBits());
+                out.writeLong(employee.id().getLeastSignificantBits());
+                writeString(out, employee.employee_name());
+                writeInteger(out, employee.employee_salary());
+                writeInteger(out, employee.employee_age());
+                writeString(out, employee.employee_title());
+                writeString(out, employee.employee_email());
+            }
+        }
+        CRC32 checksum = new CRC32();
+        checksum.update(bytes.toByteArray());
+        out.writeLong(checksum.getValue());
+
+        Path parent = path.getParent();
+        Files.createDirectories(parent);
+        Path temporary = Files.createTempFile(parent, path.getFileName().toString(), ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.WRITE)) {
+                ByteBuffer buffer = ByteBuffer.wrap(bytes.toByteArray());
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(true);
+            }
+            Files.move(temporary, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    private EmployeeRoster.Snapshot decode(ByteBuffer buffer) {
+        if (buffer.remaining() < Long.BYTES || buffer.getInt() != MAGIC) {
+            throw new IllegalArgumentException("not a roster snapshot");
+        }
+        int formatVersion = buffer.getInt();
+        if (formatVersion != FORMAT_VERSION) {
+            log.info("Ignoring roster snapshot {} in format {}", path, formatVersion);
+            return null;
+        }
+        CRC32 checksum = new CRC32();
+        checksum.update(buffer.duplicate().position(0).limit(buffer.limit() - Long.BYTES));
+        if (checksum.getValue() != buffer.getLong(buffer.limit() - Long.BYTES)) {
+            throw new IllegalArgumentException("checksum mismatch");
+        }
+        if (buffer.getLong() != upstreamFingerprint) {
+            log.info("Ignoring roster snapshot {} saved for other upstream URLs", path);
+            return null;
+        }
+        long version = buffer.getLong();
+        int shardCount = buffer.getInt();
+        List<List<Employee>> shards = new ArrayList<>(shardCount);
+        for (int shard = 0; shard < shardCount; shard++) {
+            int size = buffer.getInt();
+            List<Employee> employees = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                employees.add(new Employee(
+                        new UUID(buffer.getLong(), buffer.getLong()),
+                        readString(buffer),
+                        readInteger(buffer),
+                        readInteger(buffer),
+                        readString(buffer),
+                        readString(buffer)));
+            }
+            shards.add(List.copyOf(employees));
+        }
+        return EmployeeRoster.Snapshot.of(version, List.copyOf(shards));
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(NULL);
+            return;
+        }
+        byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(utf8.length);
+        out.write(utf8);
+    }
+
+    private static void writeInteger(DataOutputStream out, Integer value) throws IOException {
+        out.writeBoolean(value != null);
+        out.writeInt(value == null ? 0 : value);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length == NULL) {
+            return null;
+        }
+        byte[] utf8 = new byte[length];
+        buffer.get(utf8);
+        return new String(utf8, StandardCharsets.UTF_8);
+    }
+
+    private static Integer readInteger(ByteBuffer buffer) {
+        boolean present = buffer.get() != 0;
+        int value = buffer.getInt();
+        return present ? value : null;
+    }
+}
@@ -0,0 +1,131 @@
+package com.reliaquest.api.web;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Structured access log written off the request path.
+ * <p>
+ * Request threads only decide whether a request is logged and hand the raw values to a bounded queue; a single writer
+ * thread formats the lines and writes them to the {@code com.reliaquest.api.access} logger. Errors, slow requests and
+ * writes are always logged, successful reads only at {@code sample-rate}, and each line names the reason it was
+ * logged. When the queue is full entries are dropped rather than blocking the request, and the writer reports how many
+ * were lost.
+ */
+@Slf4j
+@Component
+public class AccessLog implements DisposableBean {
+
+    private static final Logger ACCESS = LoggerFactory.getLogger("com.reliaquest.api.access");
+    private static final int BATCH = 256;
+
+    private final boolean enabled;
+    private final double sampleRate;
+    private final long slowNanos;
+    private final BlockingQueue<Entry> queue;
+    private final LongAdder dropped = new LongAdder();
+    private final Thread writer;
+
+    public AccessLog(
+            @Value("${api.access-log.enabled:true}") boolean enabled,
+            @Value("${api.access-log.sample-rate:0.01}") double sampleRate,
+            @Value("${api.access-log.slow-threshold:500ms}") Duration slowThreshold,
+            @Value("${api.access-log.queue-size:4096}") int queueSize) {
+        this.enabled = enabled;
+        this.sampleRate = sampleRate;
+        this.slowNanos = slowThreshold.toNanos();
+        this.queue = new ArrayBlockingQueue<>(queueSize);
+        this.writer = new Thread(this::write, "access-log");
+        writer.setDaemon(true);
+        if (enabled) {
+            writer.start();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Why a completed request is logged, or {@code null} when it is not.
+     */
+    String reason(String method, int status, long totalNanos) {
+        if (status >= 400) {
+            return "error";
+        }
+        if (totalNanos >= slowNanos) {
+            return "slow";
+        }
+        if (!"GET".equals(method) && !"HEAD".equals(method)) {
+            return "write";
+        }
+        return ThreadLocalRandom.current().nextDouble() < sampleRate ? "sampled" : null;
+    }
+
+    /**
+     * Queues a request that {@link #reason} selected; never blocks. {@code phaseNanos} is {@code null} for requests
+     * rejected before their timing started.
+     */
+    void record(String reason, String method, String uri, int status, long totalNanos, long[] phaseNanos) {
+        if (!queue.offer(new Entry(reason, method, uri, status, totalNanos, phaseNanos))) {
+            dropped.increment();
+        }
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        writer.interrupt();
+        writer.join(Duration.ofSeconds(1).toMillis());
+    }
+
+    private void write() {
+        List<Entry> batch = new ArrayList<>(BATCH);
+        StringBuilder line = new StringBuilder(256);
+        boolean running = true;
+        while (running) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException e) {
+                running = false;
+            }
+            queue.drainTo(batch, BATCH - batch.size());
+            for (Entry entry : batch) {
+                line.setLength(0);
+                entry.appendTo(line);
+                ACCESS.info(line.toString());
+            }
+            batch.clear();
+            long lost = dropped.sumThenReset();
+            if (lost > 0) {
+                log.warn("Access log queue full, dropped {} entries", lost);
+            }
+        }
+    }
+
+    private record Entry(String reason, String method, String uri, int status, long totalNanos, long[] phaseNanos) {
+
+        void appendTo(StringBuilder line) {
+            line.append("access method=")
+                    .append(method)
+                    .append(" uri=")
+                    .append(uri)
+                    .append(" status=")
+                    .append(status)
+                    .append(" reason=")
+                    .append(reason)
+                    .append(' ');
+            RequestTiming.appendLogFields(line, phaseNanos, totalNanos);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.reliaquest.api.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Outermost interceptor, so requests rejected by later interceptors are logged too. Passes each completed request to
+ * {@link AccessLog}, copying its phase timings only when it is selected.
+ */
+public class AccessLogInterceptor implements HandlerInterceptor {
+
+    private static final String START_NANOS = AccessLogInterceptor.class.getName() + ".START";
+
+    private final AccessLog accessLog;
+
+    public AccessLogInterceptor(AccessLog accessLog) {
+        this.accessLog = accessLog;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        request.setAttribute(START_NANOS, System.nanoTime());
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(
+            HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        long totalNanos = System.nanoTime() - (Long) request.getAttribute(START_NANOS);
+        String reason = accessLog.reason(request.getMethod(), response.getStatus(), totalNanos);
+        if (reason != null) {
+            long[] phaseNanos = request.getAttribute(ServerTimingInterceptor.TIMED_REQUEST) != null
+                    ? RequestTiming.current().phaseNanos()
+                    : null;
+            accessLog.record(
+                    reason, request.getMethod(), request.getRequestURI(), response.getStatus(), totalNanos, phaseNanos);
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package com.reliaquest.api.web;
+
+import java.time.Duration;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Adaptive limit on the number of requests handled at once.
+ * <p>
+ * The limit follows a gradient of recent latency: a smoothed RTT is compared with the no-load RTT (the minimum seen over
+ * the last couple of sample windows), and while it stays within {@code rtt-tolerance} of that baseline the limit grows
+ * by roughly its square root per sample. Once requests start queueing upstream the gradient drops below one and the
+ * limit settles near the knee where latency starts rising. The baseline window rolls over so a lasting change in
+ * upstream speed is relearned. Failed requests cut the limit multiplicatively. Requests beyond the limit wait
+ * up to {@code max-wait} in a bounded per-priority queue, and each priority may only fill its share of the limit, so
+ * bulk reads are shed before single reads and writes.
+ */
+@Component
+public class ConcurrencyLimiter {
+
+    public enum Priority {
+        WRITE(1.0),
+        READ(0.9),
+        BULK(0.7);
+
+        private final double share;
+
+        Priority(double share) {
+            this.share = share;
+        }
+    }
+
+    private static final Priority[] PRIORITIES = Priority.values();
+    private static final double RTT_WEIGHT = 1 / 10.0;
+    private static final int BASELINE_WINDOW = 500;
+    private static final double SMOOTHING = 0.2;
+    private static final double BACKOFF_RATIO = 0.9;
+
+    private final boolean enabled;
+    private final double minLimit;
+    private final double maxLimit;
+    private final double rttTolerance;
+    private final long maxWaitNanos;
+    private final int maxQueue;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition[] admissible = new Condition[PRIORITIES.length];
+    private final int[] waiting = new int[PRIORITIES.length];
+    private int inFlight;
+    private double limit;
+    private double rttNanos;
+    private long baselineRttNanos = Long.MAX_VALUE;
+    private long windowMinRttNanos = Long.MAX_VALUE;
+    private long previousWindowMinRttNanos = Long.MAX_VALUE;
+    private int windowSamples;
+
+    public ConcurrencyLimiter(
+            @Value("${api.concurrency.enabled:true}") boolean enabled,
+            @Value("${api.concurrency.initial-limit:20}") int initialLimit,
+            @Value("${api.concurrency.min-limit:4}") int minLimit,
+            @Value("${api.concurrency.max-limit:180}") int maxLimit,
+            @Value("${api.concurrency.rtt-tolerance:1.5}") double rttTolerance,
+            @Value("${api.concurrency.max-wait:50ms}") Duration maxWait,
+            @Value("${api.concurrency.max-queue:64}") int maxQueue) {
+        if (minLimit < 1 || minLimit > initialLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("api.concurrency limits must satisfy 1 <= min <= initial <= max");
+        }
+        this.enabled = enabled;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.rttTolerance = rttTolerance;
+        this.maxWaitNanos = maxWait.toNanos();
+        this.maxQueue = maxQueue;
+        this.limit = initialLimit;
+        for (int i = 0; i < admissible.length; i++) {
+            admissible[i] = lock.newCondition();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Admits the caller, waiting up to {@code max-wait} for room; every successful call must be paired with
+     * {@link #release}.
+     *
+     * @return {@code false} when the request should be shed
+     */
+    public boolean acquire(Priority priority) {
+        lock.lock();
+        try {
+            if (canAdmit(priority)) {
+                inFlight++;
+                return true;
+            }
+            if (maxWaitNanos <= 0 || waiting[priority.ordinal()] >= maxQueue) {
+                return false;
+            }
+            waiting[priority.ordinal()]++;
+            boolean admitted = false;
+            try {
+                long remaining = maxWaitNanos;
+                while (!(admitted = canAdmit(priority))) {
+                    if (remaining <= 0) {
+                        return false;
+                    }
+                    remaining = admissible[priority.ordinal()].awaitNanos(remaining);
+                }
+                inFlight++;
+                return true;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            } finally {
+                waiting[priority.ordinal()]--;
+                if (!admitted) {
+                    signalNext();
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Releases an admitted request and feeds its latency into the limit.
+     *
+     * @param rttNanos time from admission to completion
+     * @param dropped the request failed or timed out, which backs the limit off regardless of latency
+     */
+    public void release(long rttNanos, boolean dropped) {
+        lock.lock();
+        try {
+            int inFlightAtCompletion = inFlight--;
+            if (dropped) {
+                limit = Math.max(minLimit, limit * BACKOFF_RATIO);
+            } else {
+                update(rttNanos, inFlightAtCompletion);
+            }
+            signalNext();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Current limit, rounded down.
+     */
+    public int getLimit() {
+        lock.lock();
+        try {
+            return (int) limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void update(long sampleNanos, int inFlightAtCompletion) {
+        if (++windowSamples == BASELINE_WINDOW) {
+            previousWindowMinRttNanos = windowMinRttNanos;
+            windowMinRttNanos = Long.MAX_VALUE;
+            windowSamples = 0;
+        }
+        windowMinRttNanos = Math.min(windowMinRttNanos, sampleNanos);
+        baselineRttNanos = Math.min(windowMinRttNanos, previousWindowMinRttNanos);
+        rttNanos = rttNanos == 0 ? sampleNanos : rttNanos + (sampleNanos - rttNanos) * RTT_WEIGHT;
+
+        double gradient = Math.max(0.5, Math.min(1.0, rttTolerance * baselineRttNanos / Math.max(1, rttNanos)));
+        double target = limit * gradient + Math.sqrt(limit);
+        if (inFlightAtCompletion < limit / 2) {
+            // Too little traffic to say anything about a higher limit.
+            target = Math.min(target, limit);
+        }
+        limit = Math.max(minLimit, Math.min(maxLimit, limit * (1 - SMOOTHING) + target * SMOOTHING));
+    }
+
+    private boolean canAdmit(Priority priority) {
+        if (inFlight >= limit * priority.share) {
+            return false;
+        }
+        for (int i = 0; i < priority.ordinal(); i++) {
+            if (waiting[i] > 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void signalNext() {
+        for (Priority priority : PRIORITIES) {
+            if (waiting[priority.ordinal()] > 0) {
+                if (inFlight < limit * priority.share) {
+                    admissible[priority.ordinal()].signal();
+                }
+                return;
+            }
+        }
+    }
+}
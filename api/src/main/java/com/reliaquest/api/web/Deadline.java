@@ -0,0 +1,67 @@
+package com.reliaquest.api.web;
+
+import java.time.Duration;
+import reactor.util.context.ContextView;
+
+/**
+ * Point in time by which the current inbound request has to be answered. Set per request thread by
+ * {@link DeadlineInterceptor} and carried into upstream calls through the Reactor context under
+ * {@code Deadline.class}, like {@link RequestTiming}.
+ */
+public final class Deadline {
+
+    public static final Deadline NONE = new Deadline(0, false);
+
+    private static final ThreadLocal<Deadline> CURRENT = ThreadLocal.withInitial(() -> NONE);
+
+    private final long expiresAtNanos;
+    private final boolean bounded;
+
+    private Deadline(long expiresAtNanos, boolean bounded) {
+        this.expiresAtNanos = expiresAtNanos;
+        this.bounded = bounded;
+    }
+
+    public static Deadline after(Duration budget) {
+        return new Deadline(System.nanoTime() + budget.toNanos(), true);
+    }
+
+    /**
+     * The calling thread's deadline, {@link #NONE} outside of a request.
+     */
+    public static Deadline current() {
+        return CURRENT.get();
+    }
+
+    public static Deadline from(ContextView context) {
+        return context.getOrDefault(Deadline.class, NONE);
+    }
+
+    static void set(Deadline deadline) {
+        CURRENT.set(deadline);
+    }
+
+    static void clear() {
+        CURRENT.remove();
+    }
+
+    public boolean isBounded() {
+        return bounded;
+    }
+
+    /**
+     * Time left, {@link Long#MAX_VALUE} when unbounded and negative once expired.
+     */
+    public long remainingNanos() {
+        return bounded ? expiresAtNanos - System.nanoTime() : Long.MAX_VALUE;
+    }
+
+    public boolean isExpired() {
+        return remainingNanos() <= 0;
+    }
+
+    @Override
+    public String toString() {
+        return bounded ? "Deadline[" + Duration.ofNanos(remainingNanos()) + " left]" : "Deadline[none]";
+    }
+}
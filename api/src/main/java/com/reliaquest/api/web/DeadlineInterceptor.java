@@ -0,0 +1,91 @@
+package com.reliaquest.api.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Sets the {@link Deadline} of each request: the millisecond budget from the configured header when the caller sends
+ * one, otherwise the default of the first matching endpoint pattern, otherwise the global default. Budgets are capped
+ * at the configured maximum.
+ */
+@Slf4j
+public class DeadlineInterceptor implements HandlerInterceptor {
+
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+
+    private final String header;
+    private final Duration defaultBudget;
+    private final Duration maxBudget;
+    private final List<EndpointBudget> endpointBudgets = new ArrayList<>();
+
+    /**
+     * @param endpointBudgets entries of the form {@code /api/v1/employee/search/**=15s}
+     */
+    public DeadlineInterceptor(
+            String header, Duration defaultBudget, Duration maxBudget, List<String> endpointBudgets) {
+        this.header = header;
+        this.defaultBudget = defaultBudget;
+        this.maxBudget = maxBudget;
+        for (String entry : endpointBudgets) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            int separator = entry.lastIndexOf('=');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("Expected pattern=duration in api.deadline.endpoints: " + entry);
+            }
+            this.endpointBudgets.add(new EndpointBudget(
+                    entry.substring(0, separator).trim(),
+                    DurationStyle.detectAndParse(entry.substring(separator + 1).trim())));
+        }
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        Duration budget = requestedBudget(request);
+        if (budget == null) {
+            budget = defaultBudget(
+                    request.getRequestURI().substring(request.getContextPath().length()));
+        }
+        Deadline.set(Deadline.after(budget.compareTo(maxBudget) > 0 ? maxBudget : budget));
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(
+            HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        Deadline.clear();
+    }
+
+    private Duration requestedBudget(HttpServletRequest request) {
+        String value = request.getHeader(header);
+        if (value == null) {
+            return null;
+        }
+        try {
+            long millis = Long.parseLong(value.trim());
+            return millis > 0 ? Duration.ofMillis(millis) : null;
+        } catch (NumberFormatException e) {
+            log.debug("Ignoring malformed {} header: {}", header, value);
+            return null;
+        }
+    }
+
+    private Duration defaultBudget(String path) {
+        for (EndpointBudget endpointBudget : endpointBudgets) {
+            if (PATH_MATCHER.match(endpointBudget.pattern(), path)) {
+                return endpointBudget.budget();
+            }
+        }
+        return defaultBudget;
+    }
+
+    private record EndpointBudget(String pattern, Duration budget) {}
+}
@@ -0,0 +1,128 @@
+package com.reliaquest.api.web;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import reactor.util.context.ContextView;
+
+/**
+ * Per-request phase timings, reported through the {@code Server-Timing} response header.
+ * <p>
+ * Each request gets its own instance, bound to the request thread when it starts; recording a phase is a couple of
+ * atomic adds. Reactive upstream calls run on other threads; they find the instance through the Reactor context under
+ * {@code RequestTiming.class}. Work that outlives the request, such as a losing hedge or a cancelled attempt, keeps
+ * writing to that request's instance and never to the next request on the same thread.
+ */
+public final class RequestTiming {
+
+    public enum Phase {
+        QUEUE("queue"),
+        UPSTREAM("upstream"),
+        RETRY("retry"),
+        DECODE("decode"),
+        COMPUTE("compute");
+
+        private final String metricName;
+
+        Phase(String metricName) {
+            this.metricName = metricName;
+        }
+    }
+
+    private static final Phase[] PHASES = Phase.values();
+    private static final ThreadLocal<RequestTiming> CURRENT = ThreadLocal.withInitial(RequestTiming::new);
+    private static final RequestTiming DISABLED = new RequestTiming();
+
+    private final AtomicLongArray nanos = new AtomicLongArray(PHASES.length);
+    private final AtomicLongArray counts = new AtomicLongArray(PHASES.length);
+    private long startNanos;
+
+    private RequestTiming() {}
+
+    /**
+     * Binds a new instance to the calling thread and returns it.
+     */
+    public static RequestTiming start() {
+        RequestTiming timing = new RequestTiming();
+        timing.startNanos = System.nanoTime();
+        CURRENT.set(timing);
+        return timing;
+    }
+
+    /**
+     * The calling thread's instance; only meaningful on a request thread after {@link #start()}.
+     */
+    public static RequestTiming current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * The instance carried in the given Reactor context, or a shared no-op sink when there is none.
+     */
+    public static RequestTiming from(ContextView context) {
+        return context.getOrDefault(RequestTiming.class, DISABLED);
+    }
+
+    public void add(Phase phase, long elapsedNanos) {
+        if (this != DISABLED) {
+            nanos.addAndGet(phase.ordinal(), elapsedNanos);
+            counts.incrementAndGet(phase.ordinal());
+        }
+    }
+
+    public long elapsedNanos() {
+        return System.nanoTime() - startNanos;
+    }
+
+    /**
+     * Renders the recorded phases plus the total so far, e.g.
+     * {@code upstream;dur=12.4;desc="2", decode;dur=0.3;desc="2", total;dur=13.1}.
+     */
+    public String toHeaderValue() {
+        StringBuilder header = new StringBuilder(128);
+        for (Phase phase : PHASES) {
+            long count = counts.get(phase.ordinal());
+            if (count > 0) {
+                header.append(phase.metricName).append(";dur=");
+                appendMillis(header, nanos.get(phase.ordinal()));
+                header.append(";desc=\"").append(count).append("\", ");
+            }
+        }
+        header.append("total;dur=");
+        appendMillis(header, elapsedNanos());
+        return header.toString();
+    }
+
+    /**
+     * Copy of the time recorded per phase, indexed by {@link Phase#ordinal()}.
+     */
+    public long[] phaseNanos() {
+        long[] copy = new long[PHASES.length];
+        for (int i = 0; i < PHASES.length; i++) {
+            copy[i] = nanos.get(i);
+        }
+        return copy;
+    }
+
+    /**
+     * Appends phases copied by {@link #phaseNanos()}, if any, plus the total as {@code key_ms=millis} log fields.
+     */
+    public static void appendLogFields(StringBuilder fields, long[] phaseNanos, long totalNanos) {
+        for (int i = 0; phaseNanos != null && i < PHASES.length; i++) {
+            Phase phase = PHASES[i];
+            fields.append(phase.metricName).append("_ms=");
+            appendMillis(fields, phaseNanos[phase.ordinal()]);
+            fields.append(' ');
+        }
+        fields.append("total_ms=");
+        appendMillis(fields, totalNanos);
+    }
+
+    private static void appendMillis(StringBuilder builder, long nanos) {
+        long hundredthsOfMillis = nanos / 10_000;
+        builder.append(hundredthsOfMillis / 100).append('.');
+        long fraction = hundredthsOfMillis % 100;
+        if (fraction < 10) {
+            builder.append('0');
+        }
+        builder.append(fraction);
+    }
+}
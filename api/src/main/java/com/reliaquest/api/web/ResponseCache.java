@@ -0,0 +1,44 @@
+package com.reliaquest.api.web;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.springframework.http.MediaType;
+
+/**
+ * Encoded read responses keyed by request path, each remembering the roster version it was computed from. An entry
+ * for an older version is simply a miss and gets replaced, so no explicit invalidation is needed. The least recently
+ * used entries are evicted beyond {@code maxEntries}, which bounds memory for arbitrary search strings.
+ */
+public class ResponseCache {
+
+    private final String epoch = Long.toHexString(System.currentTimeMillis());
+    private final Map<String, Entry> entries;
+
+    public ResponseCache(int maxEntries) {
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Strong ETag for everything derived from the given roster version. The process start time keeps tags from
+     * different runs apart, since versions restart at one.
+     */
+    public String etag(long version) {
+        return "\"" + epoch + "-" + version + "\"";
+    }
+
+    public synchronized Entry get(String key, long version) {
+        Entry entry = entries.get(key);
+        return entry != null && entry.version() == version ? entry : null;
+    }
+
+    public synchronized void put(String key, Entry entry) {
+        entries.put(key, entry);
+    }
+
+    public record Entry(long version, String etag, MediaType contentType, byte[] body) {}
+}
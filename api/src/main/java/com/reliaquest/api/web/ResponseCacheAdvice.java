@@ -0,0 +1,69 @@
+package com.reliaquest.api.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Encodes a cacheable 200 response once, stores the bytes for {@link ResponseCacheInterceptor} and writes those same
+ * bytes, so a miss is not serialized twice. Runs after every other advice, since it writes the body itself.
+ */
+@ControllerAdvice
+@Order(Ordered.LOWEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class ResponseCacheAdvice implements ResponseBodyAdvice<Object> {
+
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return MappingJackson2HttpMessageConverter.class.isAssignableFrom(converterType);
+    }
+
+    @Override
+    public Object beforeBodyWrite(
+            Object body,
+            MethodParameter returnType,
+            MediaType selectedContentType,
+            Class<? extends HttpMessageConverter<?>> selectedConverterType,
+            ServerHttpRequest request,
+            ServerHttpResponse response) {
+        if (!(request instanceof ServletServerHttpRequest servletRequest
+                && servletRequest.getServletRequest().getAttribute(ResponseCacheInterceptor.PENDING_ENTRY)
+                        instanceof ResponseCacheInterceptor.PendingEntry pending
+                && response instanceof ServletServerHttpResponse servletResponse
+                && servletResponse.getServletResponse().getStatus() == HttpStatus.OK.value())) {
+            return body;
+        }
+        try {
+            byte[] encoded = objectMapper.writeValueAsBytes(body);
+            pending.cache()
+                    .put(
+                            pending.key(),
+                            new ResponseCache.Entry(pending.version(), pending.etag(), selectedContentType, encoded));
+            response.getHeaders().set(HttpHeaders.ETAG, pending.etag());
+            response.getHeaders().setCacheControl("no-cache");
+            response.getHeaders().setContentType(selectedContentType);
+            response.getHeaders().setContentLength(encoded.length);
+            response.getBody().write(encoded);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return null;
+    }
+}
@@ -0,0 +1,129 @@
+package com.reliaquest.api.web;
+
+import com.reliaquest.api.jfr.ResponseCacheEvent;
+import com.reliaquest.api.service.EmployeeRoster;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.List;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Serves roster-derived reads from the {@link ResponseCache}. The request pins the current roster snapshot; a matching
+ * {@code If-None-Match} is answered with 304, a cached body for the same version is written as-is, and otherwise the
+ * controller runs and {@link ResponseCacheAdvice} encodes and stores its result. Paths in {@code recentPaths} pin the
+ * {@link EmployeeRoster#recent() recent} snapshot instead of the current one, so they are not held up by a fetch.
+ */
+public class ResponseCacheInterceptor implements HandlerInterceptor {
+
+    static final String PENDING_ENTRY = ResponseCacheInterceptor.class.getName() + ".PENDING_ENTRY";
+
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+
+    private final EmployeeRoster employeeRoster;
+    private final ResponseCache responseCache;
+    private final List<String> paths;
+    private final List<String> recentPaths;
+
+    public ResponseCacheInterceptor(
+            EmployeeRoster employeeRoster, ResponseCache responseCache, List<String> paths, List<String> recentPaths) {
+        this.employeeRoster = employeeRoster;
+        this.responseCache = responseCache;
+        this.paths = paths;
+        this.recentPaths = recentPaths;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
+            throws IOException {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        if (!HttpMethod.GET.matches(request.getMethod()) || !matchesAny(paths, path)) {
+            return true;
+        }
+        long version = matchesAny(recentPaths, path)
+                ? employeeRoster.pinRecent().version()
+                : employeeRoster.pin().version();
+        String etag = responseCache.etag(version);
+        String key = request.getQueryString() == null ? path : path + '?' + request.getQueryString();
+        if (matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            recordOutcome(key, version, ResponseCacheEvent.NOT_MODIFIED);
+            employeeRoster.unpin();
+            writeHeaders(request, response, etag);
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return false;
+        }
+        ResponseCache.Entry entry = responseCache.get(key, version);
+        if (entry != null) {
+            recordOutcome(key, version, ResponseCacheEvent.HIT);
+            employeeRoster.unpin();
+            writeHeaders(request, response, etag);
+            response.setContentType(entry.contentType().toString());
+            response.setContentLength(entry.body().length);
+            response.getOutputStream().write(entry.body());
+            return false;
+        }
+        recordOutcome(key, version, ResponseCacheEvent.MISS);
+        request.setAttribute(PENDING_ENTRY, new PendingEntry(responseCache, key, version, etag));
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(
+            HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (request.getAttribute(PENDING_ENTRY) != null) {
+            employeeRoster.unpin();
+        }
+    }
+
+    private static boolean matchesAny(List<String> patterns, String path) {
+        for (String pattern : patterns) {
+            if (PATH_MATCHER.match(pattern, path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void recordOutcome(String key, long version, String outcome) {
+        ResponseCacheEvent event = new ResponseCacheEvent();
+        if (event.shouldCommit()) {
+            event.key = key;
+            event.version = version;
+            event.outcome = outcome;
+            event.commit();
+        }
+    }
+
+    private static void writeHeaders(HttpServletRequest request, HttpServletResponse response, String etag) {
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+        if (request.getAttribute(ServerTimingInterceptor.TIMED_REQUEST) != null) {
+            response.setHeader(
+                    ServerTimingAdvice.SERVER_TIMING, RequestTiming.current().toHeaderValue());
+        }
+    }
+
+    /**
+     * Weak comparison, as RFC 9110 prescribes for {@code If-None-Match}.
+     */
+    private static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*") || (tag.startsWith("W/") ? tag.substring(2) : tag).equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Where {@link ResponseCacheAdvice} stores the encoded body of a cache miss.
+     */
+    record PendingEntry(ResponseCache cache, String key, long version, String etag) {}
+}
@@ -0,0 +1,21 @@
+package com.reliaquest.api.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Starts the request's {@link RequestTiming}. The header itself is written by {@link ServerTimingAdvice} just before
+ * the body, and the breakdown is logged by {@link AccessLogInterceptor}.
+ */
+public class ServerTimingInterceptor implements HandlerInterceptor {
+
+    static final String TIMED_REQUEST = ServerTimingInterceptor.class.getName() + ".TIMED";
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        RequestTiming.start();
+        request.setAttribute(TIMED_REQUEST, Boolean.TRUE);
+        return true;
+    }
+}
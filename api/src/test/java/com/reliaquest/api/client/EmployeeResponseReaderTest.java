@@ -0,0 +1,73 @@
+package com.reliaquest.api.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.Response;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+
+public class EmployeeResponseReaderTest {
+
+    private final EmployeeResponseReader reader = new EmployeeResponseReader(new JsonFactory());
+
+    private static DataBuffer buffer(String json) {
+        return DefaultDataBufferFactory.sharedInstance.wrap(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String employeeJson(UUID id, String name, String title) {
+        return """
+                {"id":"%s","employee_name":"%s","employee_salary":100000,"employee_age":25,\
+                "employee_title":"%s","employee_email":"test_email","unknown":{"nested":[1,2]}}"""
+                .formatted(id, name, title);
+    }
+
+    @Test
+    void testReadEmployee() {
+        UUID uuid = UUID.randomUUID();
+        Response<Employee> response = reader.readEmployee(buffer("{\"data\":" + employeeJson(uuid, "name", "test")
+                + ",\"status\":\"Successfully processed request.\"}"));
+        assertEquals(Response.Status.HANDLED, response.status());
+        assertEquals(new Employee(uuid, "name", 100000, 25, "test", "test_email"), response.data());
+    }
+
+    @Test
+    void testReadEmployees_CanonicalizesRepeatedValues() {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        Response<List<Employee>> response =
+                reader.readEmployees(buffer("{\"data\":[" + employeeJson(first, "a", "Engineer") + ","
+                        + employeeJson(second, "b", "Engineer") + "],\"status\":\"Successfully processed request.\"}"));
+        List<Employee> employees = response.data();
+        assertEquals(2, employees.size());
+        assertEquals(first, employees.get(0).id());
+        assertEquals(second, employees.get(1).id());
+        assertSame(employees.get(0).employee_title(), employees.get(1).employee_title());
+        assertSame(employees.get(0).employee_email(), employees.get(1).employee_email());
+    }
+
+    @Test
+    void testReadEmployee_NullDataAndError() {
+        Response<Employee> response = reader.readEmployee(
+                buffer("{\"data\":null,\"status\":\"Failed to process request.\",\"error\":\"boom\"}"));
+        assertNull(response.data());
+        assertEquals(Response.Status.ERROR, response.status());
+        assertEquals("boom", response.error());
+    }
+
+    @Test
+    void testReadEmployee_InvalidUuid() {
+        assertThrows(
+                DecodingException.class,
+                () -> reader.readEmployee(buffer("{\"data\":" + employeeJson(null, "name", "test") + "}")));
+    }
+}
@@ -0,0 +1,95 @@
+package com.reliaquest.api.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+public class HedgingPolicyTest {
+
+    private static HedgingPolicy policy(boolean enabled, double budgetRatio) {
+        return new HedgingPolicy(enabled, 0.5, budgetRatio, Duration.ofMillis(1), Duration.ofMinutes(1));
+    }
+
+    private static void primeLatency(HedgingPolicy policy, Duration latency) {
+        for (int i = 0; i < 50; i++) {
+            policy.record(latency.toNanos());
+        }
+    }
+
+    @Test
+    void testHedge_DuplicateWinsWhenPrimaryIsSlow() {
+        HedgingPolicy policy = policy(true, 1.0);
+        primeLatency(policy, Duration.ofMillis(10));
+        AtomicInteger attempts = new AtomicInteger();
+        String result = policy.hedge(() -> attempts.incrementAndGet() == 1
+                        ? Mono.delay(Duration.ofSeconds(5)).thenReturn("primary")
+                        : Mono.just("hedge"))
+                .block(Duration.ofSeconds(2));
+        assertEquals("hedge", result);
+        assertEquals(2, attempts.get());
+    }
+
+    @Test
+    void testHedge_NoDuplicateWithoutBudget() {
+        HedgingPolicy policy = policy(true, 0.0);
+        primeLatency(policy, Duration.ofMillis(1));
+        AtomicInteger attempts = new AtomicInteger();
+        String result = policy.hedge(() -> {
+                    attempts.incrementAndGet();
+                    return Mono.delay(Duration.ofMillis(100)).thenReturn("primary");
+                })
+                .block(Duration.ofSeconds(2));
+        assertEquals("primary", result);
+        assertEquals(1, attempts.get());
+    }
+
+    @Test
+    void testHedge_DisabledOrTooFewSamples() {
+        assertEquals(-1, policy(true, 1.0).hedgeDelayNanos());
+        AtomicInteger attempts = new AtomicInteger();
+        HedgingPolicy disabled = policy(false, 1.0);
+        primeLatency(disabled, Duration.ofMillis(1));
+        disabled.hedge(() -> {
+                    attempts.incrementAndGet();
+                    return Mono.delay(Duration.ofMillis(50)).thenReturn("primary");
+                })
+                .block(Duration.ofSeconds(2));
+        assertEquals(1, attempts.get());
+    }
+
+    @Test
+    void testHedge_OnlyAnsweredAttemptsAreRecorded() {
+        HedgingPolicy policy = policy(true, 1.0);
+        primeLatency(policy, Duration.ofMillis(10));
+        long delay = policy.hedgeDelayNanos();
+        AtomicInteger attempts = new AtomicInteger();
+        for (int i = 0; i < 50; i++) {
+            policy.hedge(() -> attempts.incrementAndGet() % 2 == 1
+                            ? Mono.delay(Duration.ofSeconds(5)).thenReturn("cancelled")
+                            : Mono.just("hedge"))
+                    .block(Duration.ofSeconds(2));
+        }
+        assertEquals(delay, policy.hedgeDelayNanos());
+
+        HedgingPolicy disabled = policy(false, 1.0);
+        for (int i = 0; i < 50; i++) {
+            disabled.onAnswered(Duration.ofMillis(10).toNanos());
+        }
+        assertEquals(-1, disabled.hedgeDelayNanos());
+    }
+
+    @Test
+    void testTryAcquire_PausedAfterThrottle() {
+        HedgingPolicy policy = policy(true, 1.0);
+        Mono.just("warm").transform(mono -> policy.hedge(() -> mono)).block();
+        assertTrue(policy.tryAcquire());
+        Mono.just("warm").transform(mono -> policy.hedge(() -> mono)).block();
+        policy.onThrottled();
+        assertFalse(policy.tryAcquire());
+    }
+}
@@ -0,0 +1,58 @@
+package com.reliaquest.api.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.reliaquest.api.model.EmployeeInput;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+public class ShardRouterTest {
+
+    @Test
+    void testShardFor_IsStableAndSpread() {
+        ShardRouter router = new ShardRouter(4, ShardRouter.Placement.ROUND_ROBIN);
+        int[] counts = new int[4];
+        IntStream.range(0, 4000).mapToObj(i -> UUID.randomUUID().toString()).forEach(id -> {
+            int shard = router.shardFor(id);
+            assertEquals(shard, router.shardFor(id));
+            counts[shard]++;
+        });
+        for (int count : counts) {
+            assertTrue(count > 500, "Expected ids to spread across shards but got " + count);
+        }
+    }
+
+    @Test
+    void testShardFor_RememberedLocationWins() {
+        ShardRouter router = new ShardRouter(3, ShardRouter.Placement.ROUND_ROBIN);
+        UUID uuid = UUID.randomUUID();
+        int other = (router.shardFor(uuid.toString()) + 1) % 3;
+        router.remember(uuid, other);
+        assertEquals(other, router.shardFor(uuid.toString()));
+        router.forget(uuid.toString());
+        assertEquals((other + 2) % 3, router.shardFor(uuid.toString()));
+    }
+
+    @Test
+    void testPlacement() {
+        ShardRouter roundRobin = new ShardRouter(3, ShardRouter.Placement.ROUND_ROBIN);
+        EmployeeInput input = new EmployeeInput("name");
+        assertEquals(0, roundRobin.shardFor(input));
+        assertEquals(1, roundRobin.shardFor(input));
+        assertEquals(2, roundRobin.shardFor(input));
+
+        ShardRouter nameHash = new ShardRouter(3, ShardRouter.Placement.NAME_HASH);
+        assertEquals(
+                nameHash.shardFor(new EmployeeInput("Jill Jenkins")),
+                nameHash.shardFor(new EmployeeInput("JILL JENKINS")));
+    }
+
+    @Test
+    void testSingleShard() {
+        ShardRouter router = new ShardRouter(1, ShardRouter.Placement.NAME_HASH);
+        assertEquals(0, router.shardFor("not-a-uuid"));
+        assertEquals(0, router.shardFor(new EmployeeInput("name")));
+    }
+}
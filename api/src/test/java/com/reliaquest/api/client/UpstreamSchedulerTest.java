@@ -0,0 +1,111 @@
+package com.reliaquest.api.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.reliaquest.api.client.UpstreamScheduler.Lane;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+public class UpstreamSchedulerTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    private UpstreamScheduler scheduler(int queueLimit, Duration aging) {
+        return new UpstreamScheduler(registry, 1, List.of(6, 3, 1), List.of(queueLimit, queueLimit, queueLimit), aging);
+    }
+
+    private static Mono<Void> call(Lane lane, List<Lane> started, Sinks.Empty<Void> release) {
+        return Mono.defer(() -> {
+            started.add(lane);
+            return release.asMono();
+        });
+    }
+
+    @Test
+    void testSchedule_DispatchesLanesByWeight() {
+        UpstreamScheduler scheduler = scheduler(100, Duration.ofMinutes(1));
+        List<Lane> started = new ArrayList<>();
+        Deque<Sinks.Empty<Void>> running = new ArrayDeque<>();
+        for (int i = 0; i < 40; i++) {
+            for (Lane lane : List.of(Lane.BULK_READ, Lane.POINT_READ, Lane.WRITE)) {
+                Sinks.Empty<Void> release = Sinks.empty();
+                scheduler
+                        .schedule(lane, Mono.defer(() -> {
+                            started.add(lane);
+                            running.add(release);
+                            return release.asMono();
+                        }))
+                        .subscribe();
+            }
+        }
+        while (started.size() < 61) {
+            running.poll().tryEmitEmpty();
+        }
+
+        // The first call ran before the others queued; the next 60 are shared 6:3:1.
+        List<Lane> shared = started.subList(1, 61);
+        assertEquals(36, shared.stream().filter(Lane.WRITE::equals).count(), 1, shared::toString);
+        assertEquals(18, shared.stream().filter(Lane.POINT_READ::equals).count(), 1, shared::toString);
+        assertEquals(6, shared.stream().filter(Lane.BULK_READ::equals).count(), 1, shared::toString);
+        assertEquals(
+                40 - started.stream().filter(Lane.BULK_READ::equals).count(),
+                registry.get("api.upstream.queue.size")
+                        .tag("lane", "bulk-read")
+                        .gauge()
+                        .value());
+    }
+
+    @Test
+    void testSchedule_AgedCallsGoFirst() {
+        UpstreamScheduler scheduler = scheduler(100, Duration.ZERO);
+        List<Lane> started = new ArrayList<>();
+        Sinks.Empty<Void> release = Sinks.empty();
+        scheduler.schedule(Lane.WRITE, call(Lane.WRITE, started, release)).subscribe();
+        scheduler
+                .schedule(Lane.BULK_READ, call(Lane.BULK_READ, started, release))
+                .subscribe();
+        scheduler.schedule(Lane.WRITE, call(Lane.WRITE, started, release)).subscribe();
+
+        release.tryEmitEmpty();
+
+        assertEquals(List.of(Lane.WRITE, Lane.BULK_READ, Lane.WRITE), started);
+    }
+
+    @Test
+    void testSchedule_RejectsWhenLaneQueueIsFullAndFreesCancelledSlots() {
+        UpstreamScheduler scheduler = scheduler(1, Duration.ofMinutes(1));
+        List<Lane> started = new ArrayList<>();
+        Disposable running = scheduler
+                .schedule(Lane.BULK_READ, call(Lane.BULK_READ, started, Sinks.empty()))
+                .subscribe();
+        Disposable queued = scheduler
+                .schedule(Lane.BULK_READ, call(Lane.BULK_READ, started, Sinks.empty()))
+                .subscribe();
+
+        assertThrows(
+                UpstreamQueueFullException.class,
+                () -> scheduler.schedule(Lane.BULK_READ, Mono.just("rejected")).block(Duration.ofSeconds(1)));
+        assertEquals(
+                1,
+                registry.get("api.upstream.queue.rejected")
+                        .tag("lane", "bulk-read")
+                        .counter()
+                        .count());
+
+        queued.dispose();
+        running.dispose();
+        assertEquals(
+                "admitted",
+                scheduler.schedule(Lane.WRITE, Mono.just("admitted")).block(Duration.ofSeconds(1)));
+        assertEquals(1, started.size());
+    }
+}
@@ -5,6 +5,8 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.when;
 
+import com.reliaquest.api.client.DeadlineExceededException;
+import com.reliaquest.api.client.UpstreamQueueFullException;
 import com.reliaquest.api.model.Employee;
 import com.reliaquest.api.model.EmployeeInput;
 import com.reliaquest.api.service.EmployeeService;
@@ -17,9 +19,11 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.test.web.reactive.server.WebTestClient;
 
-@WebFluxTest(EmployeeController.class)
+@WebFluxTest(controllers = EmployeeController.class, properties = "api.upstream.retry-after=3s")
 public class EmployeeControllerTest {
 
     @Autowired
@@ -49,6 +53,37 @@ public class EmployeeControllerTest {
         webTestClient.get().uri("/api/v1/employee/1").exchange().expectStatus().isNotFound();
     }
 
+    @Test
+    void testGetById_DeadlineExceeded() {
+        when(employeeService.getById(anyString()))
+                .thenThrow(new DeadlineExceededException("Deadline expired waiting for upstream"));
+        webTestClient
+                .get()
+                .uri("/api/v1/employee/1")
+                .exchange()
+                .expectStatus()
+                .isEqualTo(HttpStatus.GATEWAY_TIMEOUT)
+                .expectBody()
+                .jsonPath("$.error")
+                .isEqualTo("Deadline expired waiting for upstream");
+    }
+
+    @Test
+    void testGetById_UpstreamQueueFull() {
+        when(employeeService.getById(anyString())).thenThrow(new UpstreamQueueFullException("point-read"));
+        webTestClient
+                .get()
+                .uri("/api/v1/employee/1")
+                .exchange()
+                .expectStatus()
+                .isEqualTo(HttpStatus.SERVICE_UNAVAILABLE)
+                .expectHeader()
+                .valueEquals(HttpHeaders.RETRY_AFTER, "3")
+                .expectBody()
+                .jsonPath("$.error")
+                .isEqualTo("Too many point-read calls waiting for upstream");
+    }
+
     @Test
     void testGetAll() {
         UUID uuid = UUID.randomUUID();
@@ -0,0 +1,230 @@
+package com.reliaquest.api.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.reliaquest.api.client.DeadlineExceededException;
+import com.reliaquest.api.client.EmployeeClient;
+import com.reliaquest.api.client.UpstreamQueueFullException;
+import com.reliaquest.api.model.Employee;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Mono;
+
+public class EmployeeRosterTest {
+
+    private final Employee first = new Employee(UUID.randomUUID(), "first", 100, 30, "t", "e");
+    private final Employee second = new Employee(UUID.randomUUID(), "second", 200, 40, "t", "e");
+
+    @Mock
+    EmployeeClient employeeClient;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    void testCurrent_VersionOnlyChangesWithContent() {
+        EmployeeRoster roster = new EmployeeRoster(employeeClient, Duration.ZERO);
+        when(employeeClient.getAllByShard())
+                .thenReturn(Mono.just(List.of(List.of(first), List.of(second))))
+                .thenReturn(Mono.just(List.of(List.of(first), List.of(second))))
+                .thenReturn(Mono.just(List.of(List.of(first))));
+
+        EmployeeRoster.Snapshot initial = roster.current();
+        assertEquals(List.of(first, second), initial.employees());
+        assertSame(initial, roster.current());
+        EmployeeRoster.Snapshot changed = roster.current();
+        assertNotEquals(initial.version(), changed.version());
+        assertEquals(List.of(first), changed.employees());
+    }
+
+    @Test
+    void testCurrent_ReusedWithinMaxAgeUntilInvalidated() {
+        EmployeeRoster roster = new EmployeeRoster(employeeClient, Duration.ofMinutes(1));
+        when(employeeClient.getAllByShard())
+                .thenReturn(Mono.just(List.of(List.of(first))))
+                .thenReturn(Mono.just(List.of(List.of(first, second))));
+
+        long version = roster.current().version();
+        assertEquals(version, roster.current().version());
+        verify(employeeClient, times(1)).getAllByShard();
+
+        roster.invalidate();
+        assertEquals(List.of(first, second), roster.current().employees());
+        verify(employeeClient, times(2)).getAllByShard();
+    }
+
+    @Test
+    void testPin_HoldsSnapshotForTheRequest() {
+        EmployeeRoster roster = new EmployeeRoster(employeeClient, Duration.ZERO);
+        when(employeeClient.getAllByShard())
+                .thenReturn(Mono.just(List.of(List.of(first))))
+                .thenReturn(Mono.just(List.of(List.of(second))));
+
+        EmployeeRoster.Snapshot pinned = roster.pin();
+        assertSame(pinned, roster.current());
+        roster.unpin();
+        assertEquals(List.of(second), roster.current().employees());
+    }
+
+    @Test
+    void testRecent_ServesLastSnapshotWhileRefreshingInBackground() throws Exception {
+        EmployeeRoster roster = new EmployeeRoster(employeeClient, Duration.ZERO);
+        CountDownLatch upstream = new CountDownLatch(1);
+        when(employeeClient.getAllByShard())
+                .thenReturn(Mono.just(List.of(List.of(first))))
+                .thenReturn(Mono.fromCallable(() -> {
+                    upstream.await();
+                    return List.of(List.of(second));
+                }))
+                .thenReturn(Mono.just(List.of(List.of(first, second))));
+
+        EmployeeRoster.Snapshot fetched = roster.recent();
+        assertSame(fetched, roster.recent());
+        assertSame(fetched, roster.recent());
+        upstream.countDown();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (roster.lastFetched() == fetched && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        verify(employeeClient, times(2)).getAllByShard();
+        assertEquals(List.of(second), roster.lastFetched().employees());
+
+        roster.invalidate();
+        assertEquals(List.of(first, second), roster.recent().employees());
+    }
+
+    @Test
+    void testCurrent_SlowerOlderFetchDoesNotReplaceNewerRoster() throws Exception {
+        EmployeeRoster roster = new EmployeeRoster(employeeClient, Duration.ZERO);
+        CountDownLatch upstream = new CountDownLatch(1);
+        when(employeeClient.getAllByShard())
+                .thenReturn(Mono.fromCallable(() -> {
+                    upstream.await();
+                    return List.of(List.of(first));
+                }))
+                .thenReturn(Mono.just(List.of(List.of(first, second))));
+
+        CompletableFuture<EmployeeRoster.Snapshot> older = CompletableFuture.supplyAsync(roster::current);
+        verify(employeeClient, timeout(5_000)).getAllByShard();
+        EmployeeRoster.Snapshot newer = roster.current();
+        upstream.countDown();
+
+        assertSame(newer, older.get(5, TimeUnit.SECONDS));
+        assertSame(newer, roster.lastFetched());
+    }
+
+    @Test
+    void testCurrent_DiffsByIdAndAppliesOnlyTheChanges() {
+        EmployeeRoster roster = new EmployeeRoster(employeeClient, Duration.ZERO);
+        Employee raised = new Employee(first.id(), "first", 300, 30, "t", "e");
+        Employee third = new Employee(UUID.randomUUID(), "third", 150, 50, "t", "e");
+        when(employeeClient.getAllByShard())
+                .thenReturn(Mono.just(List.of(List.of(first, second))))
+                .thenReturn(Mono.just(List.of(List.of(raised, third))));
+
+        EmployeeRoster.Snapshot initial = roster.current();
+        EmployeeRoster.Snapshot next = roster.current();
+
+        assertEquals(initial.version(), next.previousVersion());
+        assertEquals(List.of(third), next.changes().added());
+        assertEquals(List.of(second), next.changes().removed());
+        assertEquals(
+                List.of(new RosterChanges.Update(first, raised)), next.changes().updated());
+        assertEquals(raised, next.index().get(first.id()));
+        assertNull(next.index().get(second.id()));
+        assertEquals(List.of(raised, third), next.index().topEarners(5));
+        assertEquals(List.of(second, first), initial.index().topEarners(5));
+    }
+
+    @Test
+    void testCurrent_IncrementalIndexMatchesRebuild() {
+        EmployeeRoster roster = new EmployeeRoster(employeeClient, Duration.ZERO);
+        Random random = new Random(7);
+        List<Employee> employees = new ArrayList<>();
+        for (int version = 0; version < 50; version++) {
+            for (int change = 0; change < 5; change++) {
+                int action = random.nextInt(3);
+                if (action == 0 || employees.isEmpty()) {
+                    employees.add(new Employee(UUID.randomUUID(), "e", random.nextInt(20), 30, "t", "e"));
+                } else if (action == 1) {
+                    employees.remove(random.nextInt(employees.size()));
+                } else {
+                    int index = random.nextInt(employees.size());
+                    Employee before = employees.get(index);
+                    employees.set(index, new Employee(before.id(), "e", random.nextInt(20), 31, "t", "e"));
+                }
+            }
+            when(employeeClient.getAllByShard()).thenReturn(Mono.just(List.of(List.copyOf(employees))));
+
+            RosterIndex index = roster.current().index();
+
+            RosterIndex rebuilt = RosterIndex.of(List.copyOf(employees));
+            assertEquals(employees.size(), index.size());
+            assertEquals(
+                    rebuilt.topEarners(employees.size()).stream()
+                            .map(Employee::employee_salary)
+                            .toList(),
+                    index.topEarners(employees.size()).stream()
+                            .map(Employee::employee_salary)
+                            .toList());
+            employees.forEach(employee -> assertEquals(employee, index.get(employee.id())));
+        }
+    }
+
+    @Test
+    void testCurrent_KeepsServingPreviousSnapshotWhenUpstreamFails() {
+        EmployeeRoster roster = new EmployeeRoster(employeeClient, Duration.ZERO);
+        when(employeeClient.getAllByShard())
+                .thenReturn(Mono.error(upstreamDown()))
+                .thenReturn(Mono.just(List.of(List.of(first))))
+                .thenReturn(Mono.error(upstreamDown()))
+                .thenReturn(Mono.error(Exceptions.retryExhausted("throttled", upstreamDown())));
+
+        assertThrows(WebClientResponseException.class, roster::current);
+        EmployeeRoster.Snapshot fetched = roster.current();
+        assertSame(fetched, roster.current());
+        assertSame(fetched, roster.current());
+    }
+
+    @Test
+    void testCurrent_PropagatesRequestFailuresAndInvalidatedSnapshots() {
+        EmployeeRoster roster = new EmployeeRoster(employeeClient, Duration.ZERO);
+        when(employeeClient.getAllByShard())
+                .thenReturn(Mono.just(List.of(List.of(first))))
+                .thenReturn(Mono.error(new DeadlineExceededException("deadline")))
+                .thenReturn(Mono.error(new UpstreamQueueFullException("bulk-read")))
+                .thenReturn(Mono.error(upstreamDown()));
+
+        roster.current();
+        assertThrows(DeadlineExceededException.class, roster::current);
+        assertThrows(UpstreamQueueFullException.class, roster::current);
+        roster.invalidate();
+        assertThrows(WebClientResponseException.class, roster::current);
+    }
+
+    private static WebClientResponseException upstreamDown() {
+        return WebClientResponseException.create(503, "Service Unavailable", null, null, null);
+    }
+}
@@ -0,0 +1,84 @@
+package com.reliaquest.api.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+import com.reliaquest.api.client.EmployeeClient;
+import com.reliaquest.api.model.Employee;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import reactor.core.publisher.Mono;
+
+public class EmployeeStatisticsTest {
+
+    private static final List<Double> QUANTILES = List.of(0.0, 0.5, 0.9, 0.99, 1.0);
+
+    private final Random random = new Random(7);
+
+    @Mock
+    EmployeeClient employeeClient;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    void testGetSalaryPercentiles_EmptyRoster() {
+        when(employeeClient.getAllByShard()).thenReturn(Mono.just(List.of(List.of())));
+
+        assertTrue(statistics().getSalaryPercentiles(QUANTILES).isEmpty());
+    }
+
+    @Test
+    void testUpdate_IncrementalMatchesFullBuild() {
+        List<Employee> before = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            before.add(randomEmployee());
+        }
+        List<Employee> after = new ArrayList<>(before.subList(100, before.size()));
+        after.set(0, new Employee(after.get(0).id(), "raised", 1_000_000, 70, "t", "e"));
+        after.set(1, new Employee(after.get(1).id(), "unknown", null, null, "t", "e"));
+        for (int i = 0; i < 50; i++) {
+            after.add(randomEmployee());
+        }
+        when(employeeClient.getAllByShard())
+                .thenReturn(Mono.just(List.of(before)))
+                .thenReturn(Mono.just(List.of(after)));
+
+        EmployeeRoster roster = new EmployeeRoster(employeeClient, Duration.ofMinutes(1));
+        EmployeeStatistics incremental = statistics(roster);
+        incremental.getSalaryPercentiles(QUANTILES);
+        roster.invalidate();
+        roster.current();
+        EmployeeStatistics full = statistics();
+
+        assertEquals(full.getSalaryPercentiles(QUANTILES), incremental.getSalaryPercentiles(QUANTILES));
+        assertEquals(full.getSalaryHistogram(), incremental.getSalaryHistogram());
+        assertEquals(full.getAgeHistogram(), incremental.getAgeHistogram());
+        assertEquals(
+                after.size() - 1,
+                incremental.getSalaryPercentiles(QUANTILES).orElseThrow().count());
+    }
+
+    private EmployeeStatistics statistics() {
+        return statistics(new EmployeeRoster(employeeClient, Duration.ZERO));
+    }
+
+    private EmployeeStatistics statistics(EmployeeRoster roster) {
+        return new EmployeeStatistics(roster, 0.01, 25_000, 20, 5, 20);
+    }
+
+    private Employee randomEmployee() {
+        return new Employee(
+                UUID.randomUUID(), "e", 30_000 + random.nextInt(400_000), 16 + random.nextInt(60), "t", "e");
+    }
+}
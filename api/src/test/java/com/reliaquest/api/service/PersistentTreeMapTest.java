@@ -0,0 +1,97 @@
+package com.reliaquest.api.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import org.junit.jupiter.api.Test;
+
+public class PersistentTreeMapTest {
+
+    private static <V> List<V> values(PersistentTreeMap<?, V> map) {
+        List<V> values = new ArrayList<>();
+        for (Iterator<V> it = map.values(); it.hasNext(); ) {
+            values.add(it.next());
+        }
+        return values;
+    }
+
+    private static void assertBalanced(PersistentTreeMap<?, ?> map) {
+        double bound = 1.44 * Math.log(map.size() + 2) / Math.log(2);
+        assertTrue(map.height() <= bound, () -> "height " + map.height() + " for " + map.size() + " entries");
+    }
+
+    @Test
+    void testPut_AscendingKeysStayBalanced() {
+        PersistentTreeMap<Integer, Integer> map = PersistentTreeMap.empty();
+        for (int key = 0; key < 1024; key++) {
+            map = map.put(key, key);
+        }
+
+        assertEquals(1024, map.size());
+        assertEquals(11, map.height());
+        for (int key = 0; key < 1024; key += 2) {
+            map = map.remove(key);
+        }
+        assertEquals(512, map.size());
+        assertBalanced(map);
+    }
+
+    @Test
+    void testPutAndRemove_MatchTreeMapAndStayBalanced() {
+        Random random = new Random(11);
+        PersistentTreeMap<Integer, Integer> map = PersistentTreeMap.empty();
+        TreeMap<Integer, Integer> expected = new TreeMap<>();
+        for (int i = 0; i < 5000; i++) {
+            int key = random.nextInt(500);
+            if (random.nextInt(3) == 0) {
+                map = map.remove(key);
+                expected.remove(key);
+            } else {
+                map = map.put(key, i);
+                expected.put(key, i);
+            }
+            assertEquals(expected.size(), map.size());
+            assertBalanced(map);
+        }
+
+        assertEquals(List.copyOf(expected.values()), values(map));
+        for (Map.Entry<Integer, Integer> entry : expected.entrySet()) {
+            assertEquals(entry.getValue(), map.get(entry.getKey()));
+        }
+    }
+
+    @Test
+    void testUpdates_LeavePreviousVersionUnchanged() {
+        PersistentTreeMap<String, String> before = PersistentTreeMap.<String, String>empty()
+                .put("b", "b")
+                .put("a", "a")
+                .put("c", "c");
+
+        PersistentTreeMap<String, String> after =
+                before.put("b", "B").remove("a").put("d", "d");
+
+        assertEquals(List.of("a", "b", "c"), values(before));
+        assertEquals(List.of("B", "c", "d"), values(after));
+        assertNull(after.get("a"));
+        assertSame(after, after.remove("missing"));
+    }
+
+    @Test
+    void testValues_FollowTheComparator() {
+        PersistentTreeMap<Integer, Integer> map = PersistentTreeMap.empty(Comparator.reverseOrder());
+        for (int key : List.of(3, 1, 4, 5, 9, 2, 6)) {
+            map = map.put(key, key);
+        }
+
+        assertEquals(List.of(9, 6, 5, 4, 3, 2, 1), values(map));
+    }
+}
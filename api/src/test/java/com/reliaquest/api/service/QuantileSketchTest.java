@@ -0,0 +1,53 @@
+package com.reliaquest.api.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+public class QuantileSketchTest {
+
+    private static final double[] QUANTILES = {0, 0.1, 0.25, 0.5, 0.75, 0.9, 0.99, 0.999, 1};
+
+    @Test
+    void testQuantile_WithinRelativeAccuracy() {
+        Random random = new Random(42);
+        int[] salaries = new int[100_000];
+        QuantileSketch sketch = new QuantileSketch(0.01);
+        for (int i = 0; i < salaries.length; i++) {
+            salaries[i] = 20_000 + (int) Math.round(Math.exp(random.nextGaussian() * 0.6 + 11));
+            sketch.add(salaries[i]);
+        }
+        Arrays.sort(salaries);
+
+        for (double q : QUANTILES) {
+            long exact = salaries[(int) Math.floor(q * (salaries.length - 1))];
+            long estimate = sketch.quantile(q);
+            assertTrue(Math.abs(estimate - exact) <= exact * 0.01 + 1, q + ": " + estimate + " vs " + exact);
+        }
+    }
+
+    @Test
+    void testRemove_MatchesSketchThatNeverSawTheValues() {
+        QuantileSketch sketch = new QuantileSketch(0.01);
+        QuantileSketch expected = new QuantileSketch(0.01);
+        for (int value = 0; value < 10_000; value += 7) {
+            sketch.add(value);
+            if (value % 2 == 0) {
+                expected.add(value);
+            }
+        }
+        for (int value = 0; value < 10_000; value += 7) {
+            if (value % 2 != 0) {
+                sketch.remove(value);
+            }
+        }
+
+        assertEquals(expected.count(), sketch.count());
+        for (double q : QUANTILES) {
+            assertEquals(expected.quantile(q), sketch.quantile(q));
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.reliaquest.api.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+import com.reliaquest.api.client.EmployeeClient;
+import com.reliaquest.api.model.Employee;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+public class RosterSnapshotStoreTest {
+
+    private final EmployeeRoster.Snapshot snapshot = EmployeeRoster.Snapshot.of(
+            7,
+            List.of(
+                    List.of(
+                            new Employee(UUID.randomUUID(), "Zoë Ünal", 100, 30, "Tester", "z@company.com"),
+                            new Employee(UUID.randomUUID(), null, null, null, null, null)),
+                    List.of(new Employee(UUID.randomUUID(), "second", 200, 40, "t", "s@company.com"))));
+
+    @TempDir
+    Path directory;
+
+    @Mock
+    EmployeeRoster employeeRoster;
+
+    @Mock
+    EmployeeClient employeeClient;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    void testRead_ReturnsWrittenSnapshot() throws IOException {
+        RosterSnapshotStore store = store("http://a", "http://b");
+        store.write(snapshot);
+
+        assertEquals(snapshot, store.read().orElseThrow());
+    }
+
+    @Test
+    void testRead_IgnoresOtherUpstreamAndCorruptFiles() throws IOException {
+        store("http://a", "http://b").write(snapshot);
+        assertTrue(store("http://a").read().isEmpty());
+
+        Path file = directory.resolve("roster.snapshot");
+        byte[] bytes = Files.readAllBytes(file);
+        bytes[bytes.length / 2] ^= 1;
+        Files.write(file, bytes);
+        assertTrue(store("http://a", "http://b").read().isEmpty());
+    }
+
+    @Test
+    void testSave_SurvivesRosterItCannotEncode() {
+        RosterSnapshotStore store = store("http://a", "http://b");
+        EmployeeRoster.Snapshot withoutId =
+                EmployeeRoster.Snapshot.of(8, List.of(List.of(new Employee(null, "no id", 1, 20, "t", "e"))));
+        when(employeeRoster.lastFetched()).thenReturn(withoutId).thenReturn(snapshot);
+
+        store.save();
+        store.save();
+
+        assertEquals(snapshot, store.read().orElseThrow());
+    }
+
+    private RosterSnapshotStore store(String... shardUrls) {
+        return new RosterSnapshotStore(
+                employeeRoster,
+                employeeClient,
+                directory.resolve("roster.snapshot"),
+                Duration.ofSeconds(30),
+                List.of(shardUrls));
+    }
+}
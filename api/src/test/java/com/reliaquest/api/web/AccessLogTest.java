@@ -0,0 +1,54 @@
+package com.reliaquest.api.web;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+public class AccessLogTest {
+
+    private static AccessLog accessLog(double sampleRate) {
+        return new AccessLog(false, sampleRate, Duration.ofMillis(500), 16);
+    }
+
+    @Test
+    void testReason_AlwaysLogsErrorsSlowRequestsAndWrites() {
+        AccessLog accessLog = accessLog(0.0);
+        assertEquals("error", accessLog.reason("GET", 404, 0));
+        assertEquals("error", accessLog.reason("POST", 503, 0));
+        assertEquals("slow", accessLog.reason("GET", 200, Duration.ofSeconds(1).toNanos()));
+        assertEquals("write", accessLog.reason("POST", 201, 0));
+        assertEquals("write", accessLog.reason("DELETE", 200, 0));
+        assertNull(accessLog.reason("GET", 200, 0));
+        assertNull(accessLog.reason("GET", 304, 0));
+    }
+
+    @Test
+    void testReason_SamplesSuccessfulReads() {
+        assertEquals("sampled", accessLog(1.0).reason("GET", 200, 0));
+        AccessLog accessLog = accessLog(0.1);
+        int sampled = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (accessLog.reason("GET", 200, 0) != null) {
+                sampled++;
+            }
+        }
+        assertEquals(10_000, sampled, 1_000);
+    }
+
+    @Test
+    void testAppendLogFields() {
+        long[] phaseNanos = new long[RequestTiming.Phase.values().length];
+        phaseNanos[RequestTiming.Phase.UPSTREAM.ordinal()] = 12_345_678;
+        StringBuilder fields = new StringBuilder();
+        RequestTiming.appendLogFields(fields, phaseNanos, 20_000_000);
+        assertEquals(
+                "queue_ms=0.00 upstream_ms=12.34 retry_ms=0.00 decode_ms=0.00 compute_ms=0.00 total_ms=20.00",
+                fields.toString());
+
+        fields.setLength(0);
+        RequestTiming.appendLogFields(fields, null, 1_500_000);
+        assertEquals("total_ms=1.50", fields.toString());
+    }
+}
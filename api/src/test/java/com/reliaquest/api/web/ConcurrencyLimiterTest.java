@@ -0,0 +1,88 @@
+package com.reliaquest.api.web;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.reliaquest.api.web.ConcurrencyLimiter.Priority;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+public class ConcurrencyLimiterTest {
+
+    private static ConcurrencyLimiter limiter(int initialLimit, Duration maxWait) {
+        return new ConcurrencyLimiter(true, initialLimit, 2, 100, 1.5, maxWait, 8);
+    }
+
+    @Test
+    void testAcquire_ShedsBulkBeforeWrites() {
+        ConcurrencyLimiter limiter = limiter(10, Duration.ZERO);
+        for (int i = 0; i < 7; i++) {
+            assertTrue(limiter.acquire(Priority.BULK));
+        }
+        assertFalse(limiter.acquire(Priority.BULK));
+        assertTrue(limiter.acquire(Priority.READ));
+        assertTrue(limiter.acquire(Priority.READ));
+        assertFalse(limiter.acquire(Priority.READ));
+        assertTrue(limiter.acquire(Priority.WRITE));
+        assertFalse(limiter.acquire(Priority.WRITE));
+    }
+
+    @Test
+    void testAcquire_QueuedRequestAdmittedOnRelease() throws Exception {
+        ConcurrencyLimiter limiter = limiter(2, Duration.ofSeconds(5));
+        assertTrue(limiter.acquire(Priority.WRITE));
+        assertTrue(limiter.acquire(Priority.WRITE));
+        CompletableFuture<Boolean> queued = CompletableFuture.supplyAsync(() -> limiter.acquire(Priority.WRITE));
+        Thread.sleep(50);
+        assertFalse(queued.isDone());
+        limiter.release(TimeUnit.MILLISECONDS.toNanos(1), false);
+        assertTrue(queued.get(2, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testAcquire_WaitIsBounded() {
+        ConcurrencyLimiter limiter = limiter(2, Duration.ofMillis(20));
+        assertTrue(limiter.acquire(Priority.WRITE));
+        assertTrue(limiter.acquire(Priority.WRITE));
+        long start = System.nanoTime();
+        assertFalse(limiter.acquire(Priority.WRITE));
+        assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(1));
+    }
+
+    @Test
+    void testRelease_LimitSettlesNearUpstreamCapacity() {
+        ConcurrencyLimiter limiter = limiter(4, Duration.ZERO);
+        for (int i = 0; i < 300; i++) {
+            saturate(limiter, 30);
+        }
+        int limit = limiter.getLimit();
+        assertTrue(limit > 20 && limit < 80, "limit should settle near the upstream capacity of 30: " + limit);
+    }
+
+    @Test
+    void testRelease_FailuresBackOff() {
+        ConcurrencyLimiter limiter = limiter(20, Duration.ZERO);
+        for (int i = 0; i < 10; i++) {
+            assertTrue(limiter.acquire(Priority.WRITE));
+            limiter.release(0, true);
+        }
+        assertEquals(6, limiter.getLimit());
+    }
+
+    /**
+     * Fills the limit against an upstream that serves {@code capacity} requests at once in 10ms and queues the rest.
+     */
+    private static void saturate(ConcurrencyLimiter limiter, int capacity) {
+        int admitted = 0;
+        while (limiter.acquire(Priority.WRITE)) {
+            admitted++;
+        }
+        long rttNanos = TimeUnit.MILLISECONDS.toNanos(10) * Math.max(1, (admitted + capacity - 1) / capacity);
+        for (int i = 0; i < admitted; i++) {
+            limiter.release(rttNanos, false);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.reliaquest.api.web;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.junit.jupiter.api.Test;
+
+public class RequestTimingTest {
+
+    @Test
+    void testStart_LateWritesDoNotReachTheNextRequest() {
+        RequestTiming first = RequestTiming.start();
+        first.add(RequestTiming.Phase.UPSTREAM, 1_000_000);
+        RequestTiming second = RequestTiming.start();
+
+        first.add(RequestTiming.Phase.UPSTREAM, 2_000_000);
+
+        assertSame(second, RequestTiming.current());
+        assertArrayEquals(new long[RequestTiming.Phase.values().length], second.phaseNanos());
+        assertEquals(3_000_000, first.phaseNanos()[RequestTiming.Phase.UPSTREAM.ordinal()]);
+    }
+}
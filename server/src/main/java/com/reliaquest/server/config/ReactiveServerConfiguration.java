@@ -0,0 +1,65 @@
+package com.reliaquest.server.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.server.web.FaultInjectionWebFilter;
+import com.reliaquest.server.web.FaultInjector;
+import com.reliaquest.server.web.RandomRequestLimiter;
+import com.reliaquest.server.web.RequestLimitWebFilter;
+import com.reliaquest.server.web.ServerTimingWebFilter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.web.reactive.config.BlockingExecutionConfigurer;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+import reactor.core.scheduler.Schedulers;
+
+/*
+ * Reactive runtime, selected with spring.main.web-application-type=reactive: the same controllers on WebFlux and
+ * Netty. The handlers return plain values and some of them are expensive: an unpaged listing encodes the whole roster,
+ * a query or a delete by name can scan every virtual row, and writes wait for the store's write lock. They therefore
+ * run, and their results are encoded, on the bounded elastic scheduler rather than on the event loop, so one large
+ * request does not stall the other connections on its loop. The web filters mirror the servlet filter and
+ * interceptors, in the same order.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveServerConfiguration implements WebFluxConfigurer {
+
+    /*
+     * The default predicate already selects every handler that does not return a reactive type, which is all of them.
+     */
+    @Override
+    public void configureBlockingExecution(BlockingExecutionConfigurer configurer) {
+        configurer.setExecutor(
+                new TaskExecutorAdapter(task -> Schedulers.boundedElastic().schedule(task)));
+    }
+
+    /*
+     * Tomcat is on the classpath for the servlet runtime and would otherwise be picked for reactive too.
+     */
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+
+    @Bean
+    @Order(1)
+    public FaultInjectionWebFilter faultInjectionWebFilter(FaultInjector faultInjector, ObjectMapper objectMapper) {
+        return new FaultInjectionWebFilter(faultInjector, objectMapper);
+    }
+
+    @Bean
+    @Order(2)
+    public ServerTimingWebFilter serverTimingWebFilter() {
+        return new ServerTimingWebFilter();
+    }
+
+    @Bean
+    @Order(3)
+    public RequestLimitWebFilter requestLimitWebFilter(RandomRequestLimiter randomRequestLimiter) {
+        return new RequestLimitWebFilter(randomRequestLimiter);
+    }
+}
@@ -1,11 +1,18 @@
 package com.reliaquest.server.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.server.model.FaultProfile;
 import com.reliaquest.server.model.MockEmployee;
-import com.reliaquest.server.web.RandomRequestLimitInterceptor;
+import com.reliaquest.server.service.VirtualRoster;
+import com.reliaquest.server.web.FaultInjector;
+import com.reliaquest.server.web.RandomRequestLimiter;
+import java.io.IOException;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
 import java.util.UUID;
+import java.util.random.RandomGenerator;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import lombok.extern.slf4j.Slf4j;
@@ -16,12 +23,11 @@ import net.datafaker.transformations.Schema;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
-import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.core.io.Resource;
 
 @Slf4j
 @Configuration
-public class ServerConfiguration implements WebMvcConfigurer {
+public class ServerConfiguration {
 
     public static final String EMAIL_TEMPLATE = "%s@company.com";
 
@@ -31,10 +37,17 @@ public class ServerConfiguration implements WebMvcConfigurer {
     }
 
     /*
-     * This list is modifiable by design for CRUD operations.
+     * Initial roster; MockEmployeeService copies it into its own versioned store for CRUD operations. Empty when the
+     * virtual roster is enabled.
      */
     @Bean
-    public List<MockEmployee> mockEmployees(Faker faker, @Value("${mock.employees.max:20}") int maxEmployees) {
+    public List<MockEmployee> mockEmployees(
+            Faker faker,
+            @Value("${mock.employees.max:20}") int maxEmployees,
+            @Value("${mock.employees.virtual.size:0}") int virtualSize) {
+        if (virtualSize > 0) {
+            return new ArrayList<>();
+        }
         final var transformer = new JavaObjectTransformer();
         final var schema = Schema.of(
                 Field.field("id", UUID::randomUUID),
@@ -52,8 +65,49 @@ public class ServerConfiguration implements WebMvcConfigurer {
                 .collect(Collectors.toCollection(ArrayList::new));
     }
 
-    @Override
-    public void addInterceptors(InterceptorRegistry registry) {
-        registry.addInterceptor(new RandomRequestLimitInterceptor());
+    /*
+     * Rows derived from the seed on demand instead of stored, for load tests at sizes that would not fit in memory.
+     * The same seed always yields the same roster; without a seed a random one is picked and logged.
+     */
+    @Bean
+    public VirtualRoster virtualRoster(
+            @Value("${mock.employees.virtual.size:0}") int size,
+            @Value("${mock.employees.virtual.seed:#{null}}") Long seed) {
+        if (size <= 0) {
+            return VirtualRoster.empty();
+        }
+        long effectiveSeed = seed != null ? seed : RandomGenerator.getDefault().nextLong();
+        log.info("Serving a virtual roster of {} employees with seed {}", size, effectiveSeed);
+        return VirtualRoster.of(effectiveSeed, size);
+    }
+
+    /*
+     * Starts with the profile at mock.faults.profile (a JSON FaultProfile resource) when set; otherwise with no faults
+     * until one is installed through /admin/fault-profile.
+     */
+    @Bean
+    public FaultInjector faultInjector(
+            ObjectMapper objectMapper, @Value("${mock.faults.profile:#{null}}") Resource faultProfile)
+            throws IOException {
+        final var faultInjector = new FaultInjector();
+        if (faultProfile != null) {
+            try (var inputStream = faultProfile.getInputStream()) {
+                faultInjector.setProfile(objectMapper.readValue(inputStream, FaultProfile.class));
+            }
+            log.info("Loaded fault profile from {}", faultProfile);
+        }
+        return faultInjector;
+    }
+
+    /*
+     * Rate limits are random unless mock.rate-limit.max-requests and mock.rate-limit.backoff are both set.
+     */
+    @Bean
+    public RandomRequestLimiter randomRequestLimiter(
+            @Value("${mock.rate-limit.max-requests:0}") int maxRequests,
+            @Value("${mock.rate-limit.backoff:#{null}}") Duration backoff) {
+        return maxRequests > 0 && backoff != null
+                ? new RandomRequestLimiter(maxRequests, backoff)
+                : new RandomRequestLimiter();
     }
 }
@@ -0,0 +1,48 @@
+package com.reliaquest.server.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.server.web.FaultInjectionFilter;
+import com.reliaquest.server.web.FaultInjector;
+import com.reliaquest.server.web.RandomRequestLimitInterceptor;
+import com.reliaquest.server.web.RandomRequestLimiter;
+import com.reliaquest.server.web.ServerTimingInterceptor;
+import com.reliaquest.server.web.ServerTimingMessageConverter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/*
+ * Default runtime: Spring MVC on Tomcat.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequiredArgsConstructor
+public class ServletServerConfiguration implements WebMvcConfigurer {
+
+    private final RandomRequestLimiter randomRequestLimiter;
+
+    @Bean
+    public FilterRegistrationBean<FaultInjectionFilter> faultInjectionFilter(
+            FaultInjector faultInjector, ObjectMapper objectMapper) {
+        final var registration = new FilterRegistrationBean<>(new FaultInjectionFilter(faultInjector, objectMapper));
+        registration.addUrlPatterns("/api/*");
+        return registration;
+    }
+
+    @Bean
+    public MappingJackson2HttpMessageConverter mappingJackson2HttpMessageConverter(ObjectMapper objectMapper) {
+        return new ServerTimingMessageConverter(objectMapper);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new ServerTimingInterceptor()).addPathPatterns("/api/**");
+        registry.addInterceptor(new RandomRequestLimitInterceptor(randomRequestLimiter))
+                .excludePathPatterns("/admin/**");
+    }
+}
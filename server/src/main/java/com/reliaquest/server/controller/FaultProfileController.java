@@ -0,0 +1,46 @@
+package com.reliaquest.server.controller;
+
+import com.reliaquest.server.model.FaultProfile;
+import com.reliaquest.server.model.Response;
+import com.reliaquest.server.web.FaultInjector;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@Slf4j
+@RestController
+@RequestMapping("/admin/fault-profile")
+@RequiredArgsConstructor
+public class FaultProfileController {
+
+    private final FaultInjector faultInjector;
+
+    @GetMapping()
+    public Response<FaultProfile> getFaultProfile() {
+        return Response.handledWith(faultInjector.getProfile());
+    }
+
+    @PutMapping()
+    public ResponseEntity<Response<FaultProfile>> setFaultProfile(@RequestBody FaultProfile faultProfile) {
+        try {
+            faultInjector.setProfile(faultProfile);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Response.error(e.getMessage()));
+        }
+        log.info("Installed fault profile: {}", faultProfile);
+        return ResponseEntity.ok(Response.handledWith(faultProfile));
+    }
+
+    @DeleteMapping()
+    public Response<FaultProfile> clearFaultProfile() {
+        faultInjector.setProfile(FaultProfile.none());
+        log.info("Cleared fault profile");
+        return Response.handledWith(FaultProfile.none());
+    }
+}
@@ -2,6 +2,7 @@ package com.reliaquest.server.controller;
 
 import com.reliaquest.server.model.CreateMockEmployeeInput;
 import com.reliaquest.server.model.DeleteMockEmployeeInput;
+import com.reliaquest.server.model.EmployeeQuery;
 import com.reliaquest.server.model.MockEmployee;
 import com.reliaquest.server.model.Response;
 import com.reliaquest.server.service.MockEmployeeService;
@@ -17,6 +18,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -26,9 +28,25 @@ public class MockEmployeeController {
 
     private final MockEmployeeService mockEmployeeService;
 
+    /**
+     * The whole roster, or the page starting at {@code offset} when {@code offset} or {@code limit} is given.
+     */
     @GetMapping()
-    public Response<List<MockEmployee>> getEmployees() {
-        return Response.handledWith(mockEmployeeService.getMockEmployees());
+    public Response<List<MockEmployee>> getEmployees(
+            @RequestParam(name = "offset", defaultValue = "0") int offset,
+            @RequestParam(name = "limit", defaultValue = "" + Integer.MAX_VALUE) int limit) {
+        List<MockEmployee> employees = mockEmployeeService.getMockEmployees();
+        int from = Math.min(Math.max(offset, 0), employees.size());
+        int to = from + Math.min(Math.max(limit, 0), employees.size() - from);
+        return Response.handledWith(from == 0 && to == employees.size() ? employees : employees.subList(from, to));
+    }
+
+    /**
+     * Employees matching every given filter, in roster order; see {@link EmployeeQuery}.
+     */
+    @GetMapping("/query")
+    public Response<List<MockEmployee>> queryEmployees(EmployeeQuery query) {
+        return Response.handledWith(mockEmployeeService.query(query));
     }
 
     @GetMapping("/{id}")
@@ -48,4 +66,12 @@ public class MockEmployeeController {
     public Response<Boolean> deleteEmployee(@Valid @RequestBody DeleteMockEmployeeInput input) {
         return Response.handledWith(mockEmployeeService.delete(input));
     }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Response<MockEmployee>> deleteEmployeeById(@PathVariable("id") UUID uuid) {
+        return mockEmployeeService
+                .deleteById(uuid)
+                .map(employee -> ResponseEntity.ok(Response.handledWith(employee)))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND).body(Response.handled()));
+    }
 }
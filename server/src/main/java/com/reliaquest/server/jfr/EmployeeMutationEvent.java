@@ -0,0 +1,29 @@
+package com.reliaquest.server.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A create or delete in the employee store, including the wait for the write lock.
+ */
+@Name("com.reliaquest.server.EmployeeMutation")
+@Label("Employee Mutation")
+@Category({"Mock Employee Server", "Store"})
+@StackTrace(false)
+public class EmployeeMutationEvent extends Event {
+
+    @Label("Operation")
+    public String operation;
+
+    @Label("Employee Id")
+    @Description("Id of the created or removed employee; empty when a delete matched nobody")
+    public String employeeId;
+
+    @Label("Employees")
+    @Description("Number of employees after the mutation")
+    public int employees;
+}
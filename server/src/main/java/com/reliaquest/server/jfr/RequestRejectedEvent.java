@@ -0,0 +1,32 @@
+package com.reliaquest.server.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A request answered with 429 by the mock server's rate limit.
+ */
+@Name("com.reliaquest.server.RequestRejected")
+@Label("Request Rejected")
+@Category({"Mock Employee Server", "Rate Limit"})
+@StackTrace(false)
+public class RequestRejectedEvent extends Event {
+
+    @Label("Method")
+    public String method;
+
+    @Label("Path")
+    public String path;
+
+    public static void emit(String method, String path) {
+        RequestRejectedEvent event = new RequestRejectedEvent();
+        if (event.shouldCommit()) {
+            event.method = method;
+            event.path = path;
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.reliaquest.server.model;
+
+import java.util.Locale;
+
+/**
+ * Filters of {@code GET /api/v1/employee/query}; every given filter must match. Name and title are compared ignoring
+ * case, salary and age bounds are inclusive. {@code limit} caps the number of matches returned, within the server's
+ * own maximum.
+ */
+public record EmployeeQuery(
+        String nameContains,
+        Integer minSalary,
+        Integer maxSalary,
+        Integer minAge,
+        Integer maxAge,
+        String title,
+        Integer limit) {
+
+    public boolean matches(MockEmployee employee) {
+        return (nameContains == null
+                        || (employee.getName() != null
+                                && employee.getName()
+                                        .toLowerCase(Locale.ROOT)
+                                        .contains(nameContains.toLowerCase(Locale.ROOT))))
+                && inRange(employee.getSalary(), minSalary, maxSalary)
+                && inRange(employee.getAge(), minAge, maxAge)
+                && (title == null
+                        || (employee.getTitle() != null
+                                && employee.getTitle()
+                                        .toLowerCase(Locale.ROOT)
+                                        .equals(title.toLowerCase(Locale.ROOT))));
+    }
+
+    public boolean hasSalaryRange() {
+        return minSalary != null || maxSalary != null;
+    }
+
+    public boolean hasAgeRange() {
+        return minAge != null || maxAge != null;
+    }
+
+    private static boolean inRange(Integer value, Integer min, Integer max) {
+        if (min == null && max == null) {
+            return true;
+        }
+        return value != null && (min == null || value >= min) && (max == null || value <= max);
+    }
+}
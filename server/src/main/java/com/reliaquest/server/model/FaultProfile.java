@@ -0,0 +1,111 @@
+package com.reliaquest.server.model;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Fault-injection profile for performance testing. Rules are matched in order against the request method and path
+ * (Ant-style pattern); the first match decides the latency, error and connection behaviour of that request. All
+ * random draws derive from {@code seed}, the matching rule and the request's ordinal among the requests that rule
+ * matched, so replaying the same requests for each rule against the same profile reproduces the same faults.
+ */
+public record FaultProfile(long seed, List<FaultRule> rules) {
+
+    public static FaultProfile none() {
+        return new FaultProfile(0, List.of());
+    }
+
+    public void validate() {
+        if (rules == null) {
+            throw new IllegalArgumentException("rules must not be null");
+        }
+        rules.forEach(FaultRule::validate);
+    }
+
+    /**
+     * @param method HTTP method to match, or {@code null} for any
+     * @param path Ant-style path pattern, e.g. {@code /api/v1/employee/**}
+     * @param latency added latency, or {@code null} for none
+     * @param errorRates probability of answering with each status code instead of handling the request
+     * @param truncateRate probability of answering 200 with a truncated body: fewer bytes than {@code Content-Length}
+     *     promises, after which the connection is closed
+     * @param trickle slow-body settings, or {@code null} to write the body normally
+     */
+    public record FaultRule(
+            String method,
+            String path,
+            Latency latency,
+            Map<Integer, Double> errorRates,
+            double truncateRate,
+            Trickle trickle) {
+
+        void validate() {
+            if (path == null || path.isBlank()) {
+                throw new IllegalArgumentException("path must not be blank");
+            }
+            if (!isProbability(truncateRate)) {
+                throw new IllegalArgumentException("Truncate rate must be between 0 and 1 for " + path);
+            }
+            double total = truncateRate;
+            if (errorRates != null) {
+                for (Map.Entry<Integer, Double> errorRate : errorRates.entrySet()) {
+                    if (errorRate.getKey() < 400 || errorRate.getKey() > 599) {
+                        throw new IllegalArgumentException("Not an error status: " + errorRate.getKey());
+                    }
+                    if (errorRate.getValue() == null || !isProbability(errorRate.getValue())) {
+                        throw new IllegalArgumentException(
+                                "Error rate for " + errorRate.getKey() + " must be between 0 and 1 for " + path);
+                    }
+                    total += errorRate.getValue();
+                }
+            }
+            if (total > 1) {
+                throw new IllegalArgumentException("Error and truncate rates must add up to at most 1 for " + path);
+            }
+            if (latency != null) {
+                latency.validate();
+            }
+            if (trickle != null && (trickle.chunkBytes() <= 0 || trickle.chunkDelayMillis() < 0)) {
+                throw new IllegalArgumentException("Invalid trickle settings for " + path);
+            }
+        }
+    }
+
+    /**
+     * Also rejects NaN.
+     */
+    private static boolean isProbability(double rate) {
+        return rate >= 0 && rate <= 1;
+    }
+
+    /**
+     * @param distribution shape of the added latency
+     * @param millis fixed latency, mean of the normal distribution, or scale (minimum) of the Pareto distribution
+     * @param stddevMillis standard deviation of the normal distribution
+     * @param shape Pareto shape (alpha); smaller values give a longer tail
+     * @param maxMillis cap applied to every draw, {@code 0} for none
+     */
+    public record Latency(Distribution distribution, long millis, long stddevMillis, double shape, long maxMillis) {
+
+        public enum Distribution {
+            FIXED,
+            NORMAL,
+            PARETO
+        }
+
+        void validate() {
+            if (distribution == null || millis < 0 || stddevMillis < 0 || maxMillis < 0) {
+                throw new IllegalArgumentException("Invalid latency settings: " + this);
+            }
+            if (distribution == Distribution.PARETO && shape <= 0) {
+                throw new IllegalArgumentException("Pareto latency needs a positive shape: " + this);
+            }
+        }
+    }
+
+    /**
+     * @param chunkBytes bytes written per chunk
+     * @param chunkDelayMillis pause before each chunk
+     */
+    public record Trickle(int chunkBytes, long chunkDelayMillis) {}
+}
@@ -0,0 +1,119 @@
+package com.reliaquest.server.service;
+
+import com.reliaquest.server.model.EmployeeQuery;
+import com.reliaquest.server.model.MockEmployee;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Locale;
+
+/**
+ * Persistent secondary indexes over the stored employees, keyed to their sequence numbers: salary and age in sorted
+ * trees, titles in a dictionary of posting lists. Like the snapshot that holds them, every update returns a new
+ * version sharing all unchanged nodes.
+ */
+record EmployeeIndexes(
+        PersistentTreeMap<IndexKey, Long> bySalary,
+        PersistentTreeMap<IndexKey, Long> byAge,
+        PersistentTreeMap<String, PersistentTreeMap<Long, Long>> byTitle) {
+
+    static EmployeeIndexes empty() {
+        return new EmployeeIndexes(PersistentTreeMap.empty(), PersistentTreeMap.empty(), PersistentTreeMap.empty());
+    }
+
+    EmployeeIndexes add(long sequence, MockEmployee employee) {
+        PersistentTreeMap<Long, Long> postings = null;
+        if (employee.getTitle() != null) {
+            postings = byTitle.get(titleKey(employee.getTitle()));
+            postings = (postings == null ? PersistentTreeMap.<Long, Long>empty() : postings).put(sequence, sequence);
+        }
+        return new EmployeeIndexes(
+                employee.getSalary() == null
+                        ? bySalary
+                        : bySalary.put(new IndexKey(employee.getSalary(), sequence), sequence),
+                employee.getAge() == null ? byAge : byAge.put(new IndexKey(employee.getAge(), sequence), sequence),
+                postings == null ? byTitle : byTitle.put(titleKey(employee.getTitle()), postings));
+    }
+
+    EmployeeIndexes remove(long sequence, MockEmployee employee) {
+        PersistentTreeMap<String, PersistentTreeMap<Long, Long>> titles = byTitle;
+        if (employee.getTitle() != null) {
+            String key = titleKey(employee.getTitle());
+            PersistentTreeMap<Long, Long> postings = byTitle.get(key).remove(sequence);
+            titles = postings.isEmpty() ? byTitle.remove(key) : byTitle.put(key, postings);
+        }
+        return new EmployeeIndexes(
+                employee.getSalary() == null ? bySalary : bySalary.remove(new IndexKey(employee.getSalary(), sequence)),
+                employee.getAge() == null ? byAge : byAge.remove(new IndexKey(employee.getAge(), sequence)),
+                titles);
+    }
+
+    /**
+     * Sequence numbers, in ascending order, of the stored employees that can match the query, taken from whichever
+     * index narrows it down most; {@code null} when the query uses no indexed field and every employee has to be
+     * checked. Candidates still have to be tested against the whole query.
+     */
+    long[] candidates(EmployeeQuery query) {
+        Iterator<Long> best = null;
+        int bestCount = Integer.MAX_VALUE;
+        if (query.title() != null) {
+            PersistentTreeMap<Long, Long> postings = byTitle.get(titleKey(query.title()));
+            if (postings == null) {
+                return new long[0];
+            }
+            best = postings.values();
+            bestCount = postings.size();
+        }
+        if (query.hasSalaryRange()) {
+            int count = count(bySalary, query.minSalary(), query.maxSalary());
+            if (count < bestCount) {
+                best = range(bySalary, query.minSalary());
+                bestCount = count;
+            }
+        }
+        if (query.hasAgeRange()) {
+            int count = count(byAge, query.minAge(), query.maxAge());
+            if (count < bestCount) {
+                best = range(byAge, query.minAge());
+                bestCount = count;
+            }
+        }
+        if (best == null) {
+            return null;
+        }
+        long[] sequences = new long[bestCount];
+        for (int i = 0; i < bestCount; i++) {
+            sequences[i] = best.next();
+        }
+        Arrays.sort(sequences);
+        return sequences;
+    }
+
+    private static int count(PersistentTreeMap<IndexKey, Long> index, Integer min, Integer max) {
+        int upTo = max == null ? index.size() : index.rank(new IndexKey(max, Long.MAX_VALUE));
+        int below = min == null ? 0 : index.rank(new IndexKey(min, -1));
+        return Math.max(0, upTo - below);
+    }
+
+    /**
+     * The keys from {@code min} on; the caller takes as many as {@link #count} found in range.
+     */
+    private static Iterator<Long> range(PersistentTreeMap<IndexKey, Long> index, Integer min) {
+        return index.valuesFrom(new IndexKey(min == null ? Integer.MIN_VALUE : min, -1));
+    }
+
+    private static String titleKey(String title) {
+        return title.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Orders by value, then by sequence so equal values stay distinct keys.
+     */
+    record IndexKey(int value, long sequence) implements Comparable<IndexKey> {
+
+        @Override
+        public int compareTo(IndexKey other) {
+            int byValue = Integer.compare(value, other.value);
+            return byValue != 0 ? byValue : Long.compare(sequence, other.sequence);
+        }
+    }
+}
@@ -0,0 +1,244 @@
+package com.reliaquest.server.service;
+
+import com.reliaquest.server.model.EmployeeQuery;
+import com.reliaquest.server.model.MockEmployee;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+
+/**
+ * One immutable version of the employee roster. Employees are kept in insertion order by a monotonically increasing
+ * sequence number, with a secondary id index pointing at that sequence and {@link EmployeeIndexes} for queries.
+ * <p>
+ * The rows of a {@link VirtualRoster} come before them. Those rows are derived on demand, and deleting one only adds
+ * its index to {@code deletedRows}, so creates and deletes stay a small overlay over a virtual range of any size.
+ */
+record EmployeeSnapshot(
+        long version,
+        long nextSequence,
+        PersistentTreeMap<Long, MockEmployee> bySequence,
+        PersistentTreeMap<UUID, Long> sequenceById,
+        EmployeeIndexes indexes,
+        VirtualRoster virtualRoster,
+        PersistentTreeMap<Integer, Integer> deletedRows) {
+
+    static EmployeeSnapshot empty() {
+        return over(VirtualRoster.empty());
+    }
+
+    static EmployeeSnapshot over(VirtualRoster virtualRoster) {
+        return new EmployeeSnapshot(
+                0,
+                0,
+                PersistentTreeMap.empty(),
+                PersistentTreeMap.empty(),
+                EmployeeIndexes.empty(),
+                virtualRoster,
+                PersistentTreeMap.empty());
+    }
+
+    MockEmployee findById(UUID id) {
+        int row = virtualRoster.indexOf(id);
+        if (row >= 0) {
+            return deletedRows.get(row) == null ? virtualRoster.get(row) : null;
+        }
+        Long sequence = sequenceById.get(id);
+        return sequence == null ? null : bySequence.get(sequence);
+    }
+
+    /**
+     * First employee with the given name, ignoring case. Employees created on this server are searched before the
+     * virtual rows, so deleting one does not scan the whole virtual range.
+     */
+    MockEmployee findByName(String name) {
+        Iterator<MockEmployee> created = bySequence.values();
+        while (created.hasNext()) {
+            MockEmployee employee = created.next();
+            if (employee.getName() != null && employee.getName().equalsIgnoreCase(name)) {
+                return employee;
+            }
+        }
+        Iterator<MockEmployee> rows = virtualRows();
+        while (rows.hasNext()) {
+            MockEmployee employee = rows.next();
+            if (employee.getName().equalsIgnoreCase(name)) {
+                return employee;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Up to {@code limit} employees matching every filter of the query, in roster order. Stored employees are looked
+     * up through the most selective index the query allows. Virtual rows are not indexed and are checked one by one,
+     * but name and title filters first narrow the name and title pools, so rows with other names or titles are skipped
+     * without being derived, and a filter no pool entry matches skips the virtual rows altogether. The scan stops once
+     * {@code limit} employees match.
+     */
+    List<MockEmployee> query(EmployeeQuery query, int limit) {
+        List<MockEmployee> matches = new ArrayList<>(Math.min(limit, 64));
+        if (limit <= 0) {
+            return matches;
+        }
+        BitSet names = query.nameContains() == null ? null : virtualRoster.namesContaining(query.nameContains());
+        BitSet titles = query.title() == null ? null : virtualRoster.titlesEqualTo(query.title());
+        if ((names == null || !names.isEmpty()) && (titles == null || !titles.isEmpty())) {
+            for (int row = 0; row < virtualRoster.size(); row++) {
+                if ((names != null && !names.get(virtualRoster.namePosition(row)))
+                        || (titles != null && !titles.get(virtualRoster.titlePosition(row)))
+                        || deletedRows.get(row) != null) {
+                    continue;
+                }
+                MockEmployee employee = virtualRoster.get(row);
+                if (query.matches(employee)) {
+                    matches.add(employee);
+                    if (matches.size() == limit) {
+                        return matches;
+                    }
+                }
+            }
+        }
+        long[] candidates = indexes.candidates(query);
+        Iterator<MockEmployee> stored = candidates == null
+                ? bySequence.values()
+                : Arrays.stream(candidates).mapToObj(bySequence::get).iterator();
+        while (stored.hasNext() && matches.size() < limit) {
+            MockEmployee employee = stored.next();
+            if (query.matches(employee)) {
+                matches.add(employee);
+            }
+        }
+        return matches;
+    }
+
+    EmployeeSnapshot add(MockEmployee employee) {
+        return new EmployeeSnapshot(
+                version + 1,
+                nextSequence + 1,
+                bySequence.put(nextSequence, employee),
+                sequenceById.put(employee.getId(), nextSequence),
+                indexes.add(nextSequence, employee),
+                virtualRoster,
+                deletedRows);
+    }
+
+    EmployeeSnapshot remove(UUID id) {
+        int row = virtualRoster.indexOf(id);
+        if (row >= 0) {
+            return deletedRows.get(row) != null
+                    ? this
+                    : new EmployeeSnapshot(
+                            version + 1,
+                            nextSequence,
+                            bySequence,
+                            sequenceById,
+                            indexes,
+                            virtualRoster,
+                            deletedRows.put(row, row));
+        }
+        Long sequence = sequenceById.get(id);
+        if (sequence == null) {
+            return this;
+        }
+        return new EmployeeSnapshot(
+                version + 1,
+                nextSequence,
+                bySequence.remove(sequence),
+                sequenceById.remove(id),
+                indexes.remove(sequence, bySequence.get(sequence)),
+                virtualRoster,
+                deletedRows);
+    }
+
+    /**
+     * Read-only list view of this version; safe to hand to Jackson while writers publish newer versions. Virtual rows
+     * are materialized one at a time as the view is read.
+     */
+    List<MockEmployee> employees() {
+        int virtualSize = virtualRoster.size() - deletedRows.size();
+        return new AbstractList<>() {
+            @Override
+            public MockEmployee get(int index) {
+                return index < virtualSize
+                        ? virtualRoster.get(liveRow(index))
+                        : bySequence.valueAt(index - virtualSize);
+            }
+
+            @Override
+            public int size() {
+                return virtualSize + bySequence.size();
+            }
+
+            @Override
+            public Iterator<MockEmployee> iterator() {
+                Iterator<MockEmployee> rows = virtualRows();
+                Iterator<MockEmployee> created = bySequence.values();
+                return new Iterator<>() {
+                    @Override
+                    public boolean hasNext() {
+                        return rows.hasNext() || created.hasNext();
+                    }
+
+                    @Override
+                    public MockEmployee next() {
+                        return rows.hasNext() ? rows.next() : created.next();
+                    }
+                };
+            }
+        };
+    }
+
+    /**
+     * Row of the virtual roster at the given position once deleted rows are skipped: the smallest row with
+     * {@code index + 1} live rows up to and including it.
+     */
+    private int liveRow(int index) {
+        if (deletedRows.isEmpty()) {
+            return index;
+        }
+        int low = index;
+        int high = index + deletedRows.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (middle + 1 - deletedRows.rank(middle) > index) {
+                high = middle;
+            } else {
+                low = middle + 1;
+            }
+        }
+        return low;
+    }
+
+    private Iterator<MockEmployee> virtualRows() {
+        return new Iterator<>() {
+            private int row = skipDeleted(0);
+
+            @Override
+            public boolean hasNext() {
+                return row < virtualRoster.size();
+            }
+
+            @Override
+            public MockEmployee next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                MockEmployee employee = virtualRoster.get(row);
+                row = skipDeleted(row + 1);
+                return employee;
+            }
+
+            private int skipDeleted(int from) {
+                while (from < virtualRoster.size() && deletedRows.get(from) != null) {
+                    from++;
+                }
+                return from;
+            }
+        };
+    }
+}
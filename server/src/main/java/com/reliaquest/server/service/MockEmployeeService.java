@@ -1,35 +1,63 @@
 package com.reliaquest.server.service;
 
 import com.reliaquest.server.config.ServerConfiguration;
+import com.reliaquest.server.jfr.EmployeeMutationEvent;
 import com.reliaquest.server.model.CreateMockEmployeeInput;
 import com.reliaquest.server.model.DeleteMockEmployeeInput;
+import com.reliaquest.server.model.EmployeeQuery;
 import com.reliaquest.server.model.MockEmployee;
 import java.util.List;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
-import lombok.Getter;
 import lombok.NonNull;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.datafaker.Faker;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+/**
+ * Multi-version employee store. Every write builds a new {@link EmployeeSnapshot} from persistent structures that
+ * share all unchanged nodes with the previous version and publishes it through a volatile reference; writers are
+ * serialised on a single lock while readers never block and always see one consistent version. A non-empty
+ * {@link VirtualRoster} provides the initial rows without storing them.
+ */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class MockEmployeeService {
 
     private final Faker faker;
+    private final int maxQueryResults;
+    private final Object writeLock = new Object();
+    private volatile EmployeeSnapshot snapshot;
 
-    @Getter
-    private final List<MockEmployee> mockEmployees;
+    public MockEmployeeService(
+            Faker faker,
+            List<MockEmployee> mockEmployees,
+            VirtualRoster virtualRoster,
+            @Value("${mock.query.max-results:1000}") int maxQueryResults) {
+        this.faker = faker;
+        this.maxQueryResults = maxQueryResults;
+        EmployeeSnapshot initial = EmployeeSnapshot.over(virtualRoster);
+        for (MockEmployee mockEmployee : mockEmployees) {
+            initial = initial.add(mockEmployee);
+        }
+        this.snapshot = initial;
+    }
+
+    public List<MockEmployee> getMockEmployees() {
+        return snapshot.employees();
+    }
 
     public Optional<MockEmployee> findById(@NonNull UUID uuid) {
-        return mockEmployees.stream()
-                .filter(mockEmployee -> Objects.nonNull(mockEmployee.getId())
-                        && mockEmployee.getId().equals(uuid))
-                .findFirst();
+        return Optional.ofNullable(snapshot.findById(uuid));
+    }
+
+    /**
+     * Matches in roster order, at most the query's limit and never more than {@code mock.query.max-results}.
+     */
+    public List<MockEmployee> query(@NonNull EmployeeQuery query) {
+        int limit = query.limit() == null ? maxQueryResults : Math.max(0, Math.min(query.limit(), maxQueryResults));
+        return snapshot.query(query, limit);
     }
 
     public MockEmployee create(@NonNull CreateMockEmployeeInput input) {
@@ -37,22 +65,56 @@ public class MockEmployeeService {
                 ServerConfiguration.EMAIL_TEMPLATE.formatted(
                         faker.twitter().userName().toLowerCase()),
                 input);
-        mockEmployees.add(mockEmployee);
+        EmployeeMutationEvent event = new EmployeeMutationEvent();
+        event.begin();
+        synchronized (writeLock) {
+            snapshot = snapshot.add(mockEmployee);
+            event.employees = snapshot.employees().size();
+        }
+        event.operation = "create";
+        event.employeeId = mockEmployee.getId().toString();
+        event.commit();
         log.debug("Added employee: {}", mockEmployee);
         return mockEmployee;
     }
 
+    /**
+     * Removes the first employee with the given name. The name scan can cover the whole virtual range, so it runs
+     * against the published snapshot outside the write lock; only the removal of the id it found is serialised, and a
+     * namesake deleted in the meantime sends the scan to the newer version.
+     */
     public boolean delete(@NonNull DeleteMockEmployeeInput input) {
-        final var mockEmployee = mockEmployees.stream()
-                .filter(employee -> Objects.nonNull(employee.getName())
-                        && employee.getName().equalsIgnoreCase(input.getName()))
-                .findFirst();
-        if (mockEmployee.isPresent()) {
-            mockEmployees.remove(mockEmployee.get());
-            log.debug("Removed employee: {}", mockEmployee.get());
-            return true;
+        while (true) {
+            MockEmployee found = snapshot.findByName(input.getName());
+            if (found == null) {
+                return false;
+            }
+            if (deleteById(found.getId()).isPresent()) {
+                return true;
+            }
         }
+    }
 
-        return false;
+    /**
+     * Removes the employee with the given id through the id index, without scanning names.
+     */
+    public Optional<MockEmployee> deleteById(@NonNull UUID uuid) {
+        MockEmployee removed;
+        EmployeeMutationEvent event = new EmployeeMutationEvent();
+        event.begin();
+        synchronized (writeLock) {
+            removed = snapshot.findById(uuid);
+            if (removed != null) {
+                snapshot = snapshot.remove(removed.getId());
+            }
+            event.employees = snapshot.employees().size();
+        }
+        event.operation = "delete";
+        event.employeeId = removed == null ? "" : removed.getId().toString();
+        event.commit();
+        if (removed != null) {
+            log.debug("Removed employee: {}", removed);
+        }
+        return Optional.ofNullable(removed);
     }
 }
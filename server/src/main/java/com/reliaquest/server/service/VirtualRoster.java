@@ -0,0 +1,173 @@
+package com.reliaquest.server.service;
+
+import com.reliaquest.server.config.ServerConfiguration;
+import com.reliaquest.server.model.MockEmployee;
+import java.util.BitSet;
+import java.util.Locale;
+import java.util.Random;
+import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import net.datafaker.Faker;
+
+/**
+ * A roster of {@code size} employees that are never stored: row {@code i} is derived from {@code (seed, i)} whenever it
+ * is read, so any size costs the same few kilobytes of name pools.
+ * <p>
+ * Ids are version 8 UUIDs whose high half is fixed per seed and whose low half is an invertible scramble of the index,
+ * so {@link #indexOf(UUID)} maps an id back to its row without an index. Randomly generated (version 4) ids of created
+ * employees never collide with them.
+ */
+public final class VirtualRoster {
+
+    private static final VirtualRoster EMPTY = new VirtualRoster(0, 0, new String[0], new String[0], new String[0]);
+
+    private static final int POOL_SIZE = 1024;
+    private static final long INDEX_MASK = 0x3FFF_FFFF_FFFF_FFFFL;
+    private static final long VARIANT = 0x8000_0000_0000_0000L;
+    private static final long MULTIPLIER = 0x5851_F42D_4C95_7F2DL;
+    private static final long MULTIPLIER_INVERSE = inverse(MULTIPLIER);
+
+    private final long seed;
+    private final int size;
+    private final long idHigh;
+    private final long indexKey;
+    private final String[] names;
+    private final String[] titles;
+    private final String[] userNames;
+
+    private VirtualRoster(long seed, int size, String[] names, String[] titles, String[] userNames) {
+        this.seed = seed;
+        this.size = size;
+        this.idHigh = (mix(seed) & ~0xF000L) | 0x8000L;
+        this.indexKey = mix(seed + 1) & INDEX_MASK;
+        this.names = names;
+        this.titles = titles;
+        this.userNames = userNames;
+    }
+
+    public static VirtualRoster empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Builds the name, title and user name pools from a {@link Faker} seeded with {@code seed}, so the same seed and
+     * locale always yield the same roster.
+     */
+    public static VirtualRoster of(long seed, int size) {
+        if (size <= 0) {
+            return EMPTY;
+        }
+        Faker faker = new Faker(Locale.getDefault(), new Random(seed));
+        return new VirtualRoster(
+                seed,
+                size,
+                pool(() -> faker.name().fullName()),
+                pool(() -> faker.job().title()),
+                pool(() -> faker.twitter().userName().toLowerCase()));
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public MockEmployee get(int index) {
+        long bits = bits(index);
+        return new MockEmployee(
+                idOf(index),
+                names[(int) (bits & (POOL_SIZE - 1))],
+                30000 + (int) Long.remainderUnsigned(bits >>> 10, 470000),
+                16 + (int) Long.remainderUnsigned(bits >>> 40, 54),
+                titles[(int) ((bits >>> 50) & (POOL_SIZE - 1))],
+                ServerConfiguration.EMAIL_TEMPLATE.formatted(
+                        userNames[(int) ((bits >>> 20) & (POOL_SIZE - 1))] + index));
+    }
+
+    public UUID idOf(int index) {
+        return new UUID(idHigh, VARIANT | ((index * MULTIPLIER & INDEX_MASK) ^ indexKey));
+    }
+
+    /**
+     * @return the row the id belongs to, or -1 when it is not an id of this roster
+     */
+    public int indexOf(UUID id) {
+        if (size == 0 || id.getMostSignificantBits() != idHigh) {
+            return -1;
+        }
+        long index = ((id.getLeastSignificantBits() & INDEX_MASK) ^ indexKey) * MULTIPLIER_INVERSE & INDEX_MASK;
+        return index < size && (id.getLeastSignificantBits() & ~INDEX_MASK) == VARIANT ? (int) index : -1;
+    }
+
+    /**
+     * Positions in the name pool of the names containing the fragment, ignoring case; with {@link #namePosition} this
+     * rules rows out without deriving them.
+     */
+    BitSet namesContaining(String fragment) {
+        String lowerFragment = fragment.toLowerCase(Locale.ROOT);
+        BitSet positions = new BitSet(names.length);
+        for (int position = 0; position < names.length; position++) {
+            if (names[position].toLowerCase(Locale.ROOT).contains(lowerFragment)) {
+                positions.set(position);
+            }
+        }
+        return positions;
+    }
+
+    /**
+     * Position in the name pool of the name of row {@code index}.
+     */
+    int namePosition(int index) {
+        return (int) (bits(index) & (POOL_SIZE - 1));
+    }
+
+    /**
+     * Positions in the title pool of the titles equal to {@code title}, ignoring case; used with
+     * {@link #titlePosition} like {@link #namesContaining}.
+     */
+    BitSet titlesEqualTo(String title) {
+        String lowerTitle = title.toLowerCase(Locale.ROOT);
+        BitSet positions = new BitSet(titles.length);
+        for (int position = 0; position < titles.length; position++) {
+            if (titles[position].toLowerCase(Locale.ROOT).equals(lowerTitle)) {
+                positions.set(position);
+            }
+        }
+        return positions;
+    }
+
+    /**
+     * Position in the title pool of the title of row {@code index}.
+     */
+    int titlePosition(int index) {
+        return (int) ((bits(index) >>> 50) & (POOL_SIZE - 1));
+    }
+
+    private long bits(int index) {
+        return mix(seed ^ mix(index));
+    }
+
+    private static String[] pool(Supplier<String> supplier) {
+        return IntStream.range(0, POOL_SIZE).mapToObj(ignored -> supplier.get()).toArray(String[]::new);
+    }
+
+    /**
+     * SplitMix64 finalizer.
+     */
+    private static long mix(long value) {
+        long z = value + 0x9E37_79B9_7F4A_7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58_476D_1CE4_E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D0_49BB_1331_11EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Multiplicative inverse of an odd number modulo 2^64 by Newton's iteration.
+     */
+    private static long inverse(long odd) {
+        long inverse = odd;
+        for (int i = 0; i < 5; i++) {
+            inverse *= 2 - odd * inverse;
+        }
+        return inverse;
+    }
+}
@@ -0,0 +1,153 @@
+package com.reliaquest.server.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.server.model.FaultProfile;
+import com.reliaquest.server.model.Response;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Applies the {@link FaultInjector}'s decision to each request: added latency, injected error statuses, truncated
+ * responses, and bodies trickled out in small delayed chunks. This is a servlet filter rather than a
+ * {@code HandlerInterceptor} because trickling has to wrap the response body stream.
+ */
+@RequiredArgsConstructor
+public class FaultInjectionFilter extends OncePerRequestFilter {
+
+    private static final byte[] PARTIAL_BODY = "{\"data\":[".getBytes(StandardCharsets.UTF_8);
+
+    private final FaultInjector faultInjector;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        FaultInjector.Decision decision = faultInjector.decide(request.getMethod(), request.getRequestURI());
+        if (decision.isNone()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        if (decision.latencyMillis() > 0) {
+            pause(decision.latencyMillis());
+        }
+        if (decision.truncate()) {
+            // Promise more bytes than are sent; the container has to drop the connection to end the response.
+            response.setStatus(HttpServletResponse.SC_OK);
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.setContentLength(PARTIAL_BODY.length * 64);
+            response.getOutputStream().write(PARTIAL_BODY);
+            response.flushBuffer();
+            return;
+        }
+        if (decision.status() != 0) {
+            response.setStatus(decision.status());
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            objectMapper.writeValue(
+                    response.getOutputStream(), Response.error("Injected fault: HTTP " + decision.status()));
+            return;
+        }
+        filterChain.doFilter(
+                request, decision.trickle() == null ? response : new TricklingResponse(response, decision.trickle()));
+    }
+
+    private static void pause(long millis) throws IOException {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while injecting latency", e);
+        }
+    }
+
+    private static final class TricklingResponse extends HttpServletResponseWrapper {
+
+        private final FaultProfile.Trickle trickle;
+        private ServletOutputStream outputStream;
+        private PrintWriter writer;
+
+        private TricklingResponse(HttpServletResponse response, FaultProfile.Trickle trickle) {
+            super(response);
+            this.trickle = trickle;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (outputStream == null) {
+                outputStream = new TricklingOutputStream(super.getOutputStream(), trickle);
+            }
+            return outputStream;
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            if (writer == null) {
+                writer = new PrintWriter(getOutputStream(), false, StandardCharsets.UTF_8);
+            }
+            return writer;
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            if (writer != null) {
+                writer.flush();
+            }
+            super.flushBuffer();
+        }
+    }
+
+    private static final class TricklingOutputStream extends ServletOutputStream {
+
+        private final ServletOutputStream delegate;
+        private final FaultProfile.Trickle trickle;
+
+        private TricklingOutputStream(ServletOutputStream delegate, FaultProfile.Trickle trickle) {
+            this.delegate = delegate;
+            this.trickle = trickle;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[] {(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            for (int written = 0; written < length; written += trickle.chunkBytes()) {
+                pause(trickle.chunkDelayMillis());
+                delegate.write(bytes, offset + written, Math.min(trickle.chunkBytes(), length - written));
+                delegate.flush();
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            delegate.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            delegate.setWriteListener(writeListener);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.reliaquest.server.web;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.server.model.FaultProfile;
+import com.reliaquest.server.model.Response;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import lombok.RequiredArgsConstructor;
+import org.reactivestreams.Publisher;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.AbstractServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.Connection;
+import reactor.netty.http.server.HttpServerResponse;
+
+/**
+ * Reactive counterpart of {@link FaultInjectionFilter}. Latency and trickling are timer-driven here, so an injected
+ * delay holds no thread.
+ */
+@RequiredArgsConstructor
+public class FaultInjectionWebFilter implements WebFilter {
+
+    private static final PathPattern API_PATHS = PathPatternParser.defaultInstance.parse("/api/**");
+    private static final byte[] PARTIAL_BODY = "{\"data\":[".getBytes(StandardCharsets.UTF_8);
+
+    private final FaultInjector faultInjector;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        if (!API_PATHS.matches(exchange.getRequest().getPath().pathWithinApplication())) {
+            return chain.filter(exchange);
+        }
+        FaultInjector.Decision decision = faultInjector.decide(
+                exchange.getRequest().getMethod().name(),
+                exchange.getRequest().getPath().value());
+        if (decision.isNone()) {
+            return chain.filter(exchange);
+        }
+        Mono<Void> handling = Mono.defer(() -> handle(exchange, chain, decision));
+        return decision.latencyMillis() > 0
+                ? Mono.delay(Duration.ofMillis(decision.latencyMillis())).then(handling)
+                : handling;
+    }
+
+    private Mono<Void> handle(ServerWebExchange exchange, WebFilterChain chain, FaultInjector.Decision decision) {
+        ServerHttpResponse response = exchange.getResponse();
+        if (decision.truncate()) {
+            // Promise more bytes than are sent, then drop the connection.
+            response.setStatusCode(HttpStatus.OK);
+            response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+            response.getHeaders().setContentLength(PARTIAL_BODY.length * 64L);
+            return response.writeAndFlushWith(
+                            Mono.just(Mono.just(response.bufferFactory().wrap(PARTIAL_BODY))))
+                    .then(Mono.fromRunnable(() -> disconnect(response)));
+        }
+        if (decision.status() != 0) {
+            response.setStatusCode(HttpStatus.valueOf(decision.status()));
+            response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+            byte[] body;
+            try {
+                body = objectMapper.writeValueAsBytes(Response.error("Injected fault: HTTP " + decision.status()));
+            } catch (JsonProcessingException e) {
+                return Mono.error(e);
+            }
+            return response.writeWith(Mono.just(response.bufferFactory().wrap(body)));
+        }
+        return chain.filter(
+                decision.trickle() == null
+                        ? exchange
+                        : exchange.mutate()
+                                .response(new TricklingResponse(response, decision.trickle()))
+                                .build());
+    }
+
+    private static void disconnect(ServerHttpResponse response) {
+        if (response instanceof AbstractServerHttpResponse nativeHolder
+                && nativeHolder.getNativeResponse() instanceof HttpServerResponse nettyResponse) {
+            nettyResponse.withConnection(Connection::dispose);
+        }
+    }
+
+    private static final class TricklingResponse extends ServerHttpResponseDecorator {
+
+        private final FaultProfile.Trickle trickle;
+
+        private TricklingResponse(ServerHttpResponse delegate, FaultProfile.Trickle trickle) {
+            super(delegate);
+            this.trickle = trickle;
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            Flux<DataBuffer> chunks = Flux.from(body)
+                    .concatMapIterable(this::split)
+                    .delayElements(Duration.ofMillis(trickle.chunkDelayMillis()));
+            return super.writeAndFlushWith(chunks.map(Mono::just));
+        }
+
+        @Override
+        public Mono<Void> writeAndFlushWith(Publisher<? extends Publisher<? extends DataBuffer>> body) {
+            return writeWith(Flux.from(body).concatMap(Flux::from));
+        }
+
+        private Iterable<DataBuffer> split(DataBuffer buffer) {
+            byte[] bytes = new byte[buffer.readableByteCount()];
+            buffer.read(bytes);
+            DataBufferUtils.release(buffer);
+            DataBuffer[] chunks = new DataBuffer[(bytes.length + trickle.chunkBytes() - 1) / trickle.chunkBytes()];
+            for (int i = 0; i < chunks.length; i++) {
+                int from = i * trickle.chunkBytes();
+                chunks[i] = bufferFactory()
+                        .wrap(Arrays.copyOfRange(bytes, from, Math.min(bytes.length, from + trickle.chunkBytes())));
+            }
+            return Arrays.asList(chunks);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.reliaquest.server.web;
+
+import com.reliaquest.server.model.FaultProfile;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+import org.springframework.util.AntPathMatcher;
+
+/**
+ * Holds the active {@link FaultProfile} and decides, per request, which faults to inject.
+ * <p>
+ * Each rule numbers the requests it matches, and the n-th request a rule matches draws from the seed, the rule and n.
+ * Adding or removing requests that other rules match therefore does not shift a rule's faults. Requests to different
+ * endpoints that one rule matches share its sequence, and concurrent requests take their numbers in arrival order.
+ */
+public class FaultInjector {
+
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+
+    private final AtomicReference<Active> active =
+            new AtomicReference<>(new Active(FaultProfile.none(), new AtomicLongArray(0)));
+
+    public FaultProfile getProfile() {
+        return active.get().profile();
+    }
+
+    /**
+     * Installs a new profile with every rule's request ordinal at zero, so a run started after this call is
+     * reproducible.
+     */
+    public void setProfile(FaultProfile faultProfile) {
+        faultProfile.validate();
+        active.set(new Active(
+                faultProfile, new AtomicLongArray(faultProfile.rules().size())));
+    }
+
+    public Decision decide(String method, String path) {
+        Active current = active.get();
+        List<FaultProfile.FaultRule> rules = current.profile().rules();
+        for (int index = 0; index < rules.size(); index++) {
+            FaultProfile.FaultRule rule = rules.get(index);
+            if ((rule.method() == null || rule.method().equalsIgnoreCase(method))
+                    && PATH_MATCHER.match(rule.path(), path)) {
+                long ordinal = current.ordinals().getAndIncrement(index);
+                SplittableRandom random =
+                        new SplittableRandom(current.profile().seed() ^ mix(((long) index << 48) + ordinal));
+                return decide(rule, random);
+            }
+        }
+        return Decision.NONE;
+    }
+
+    private static Decision decide(FaultProfile.FaultRule rule, SplittableRandom random) {
+        long latencyMillis = rule.latency() == null ? 0 : latency(rule.latency(), random);
+        double draw = random.nextDouble();
+        if (draw < rule.truncateRate()) {
+            return new Decision(latencyMillis, 0, true, null);
+        }
+        double cumulative = rule.truncateRate();
+        if (rule.errorRates() != null) {
+            for (Map.Entry<Integer, Double> errorRate : rule.errorRates().entrySet()) {
+                cumulative += errorRate.getValue();
+                if (draw < cumulative) {
+                    return new Decision(latencyMillis, errorRate.getKey(), false, null);
+                }
+            }
+        }
+        return new Decision(latencyMillis, 0, false, rule.trickle());
+    }
+
+    private static long latency(FaultProfile.Latency latency, SplittableRandom random) {
+        double millis =
+                switch (latency.distribution()) {
+                    case FIXED -> latency.millis();
+                    case NORMAL -> latency.millis() + random.nextGaussian() * latency.stddevMillis();
+                    case PARETO -> latency.millis() / Math.pow(1 - random.nextDouble(), 1 / latency.shape());
+                };
+        long bounded = Math.max(0, Math.round(millis));
+        return latency.maxMillis() > 0 ? Math.min(bounded, latency.maxMillis()) : bounded;
+    }
+
+    private static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+        value = (value ^ (value >>> 27)) * 0x94D049BB133111EBL;
+        return value ^ (value >>> 31);
+    }
+
+    /**
+     * @param ordinals requests matched so far, per rule
+     */
+    private record Active(FaultProfile profile, AtomicLongArray ordinals) {}
+
+    /**
+     * @param latencyMillis delay before the request is handled
+     * @param status error status to answer with instead of handling the request, {@code 0} for none
+     * @param truncate send fewer body bytes than {@code Content-Length} promises, then close the connection
+     * @param trickle slow-body settings for the handled response, or {@code null}
+     */
+    public record Decision(long latencyMillis, int status, boolean truncate, FaultProfile.Trickle trickle) {
+        static final Decision NONE = new Decision(0, 0, false, null);
+
+        public boolean isNone() {
+            return this == NONE;
+        }
+    }
+}
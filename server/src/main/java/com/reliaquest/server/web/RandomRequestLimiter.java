@@ -0,0 +1,60 @@
+package com.reliaquest.server.web;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.random.RandomGenerator;
+import lombok.Getter;
+
+/**
+ * The mock server's rate limit, shared by the servlet interceptor and the reactive web filter.
+ */
+public class RandomRequestLimiter {
+
+    private final int maxRequests;
+    private final Duration backoffDuration;
+
+    private final AtomicReference<RequestLimit> requestLimit = new AtomicReference<>(RequestLimit.init());
+
+    /**
+     * Limits picked at random, as the mock server has always done.
+     */
+    public RandomRequestLimiter() {
+        this(
+                RandomGenerator.getDefault().nextInt(5, 10),
+                Duration.ofSeconds(RandomGenerator.getDefault().nextInt(30, 90)));
+    }
+
+    /**
+     * Fixed limits, for reproducible performance runs.
+     */
+    public RandomRequestLimiter(int maxRequests, Duration backoffDuration) {
+        this.maxRequests = maxRequests;
+        this.backoffDuration = backoffDuration;
+    }
+
+    /**
+     * @return {@code false} when the request has to be answered with 429
+     */
+    public boolean tryAcquire() {
+        if (requestLimit.get().getCount() >= maxRequests) {
+            if (Instant.now().minus(backoffDuration).isBefore(requestLimit.get().getLastRequested())) {
+                return false;
+            }
+            if (Instant.now().minus(backoffDuration).isAfter(requestLimit.get().getLastRequested())) {
+                requestLimit.set(RequestLimit.init());
+            }
+        } else {
+            requestLimit.getAndUpdate(
+                    currentRequestLimit -> new RequestLimit(currentRequestLimit.count() + 1, Instant.now()));
+        }
+
+        return true;
+    }
+
+    private record RequestLimit(@Getter int count, @Getter Instant lastRequested) {
+        public static RequestLimit init() {
+            return new RequestLimit(0, Instant.now());
+        }
+    }
+}
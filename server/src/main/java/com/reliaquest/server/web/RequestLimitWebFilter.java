@@ -0,0 +1,35 @@
+package com.reliaquest.server.web;
+
+import com.reliaquest.server.jfr.RequestRejectedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive counterpart of {@link RandomRequestLimitInterceptor}; the admin endpoints are never limited.
+ */
+@RequiredArgsConstructor
+public class RequestLimitWebFilter implements WebFilter {
+
+    private static final PathPattern ADMIN_PATHS = PathPatternParser.defaultInstance.parse("/admin/**");
+
+    private final RandomRequestLimiter requestLimiter;
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        if (ADMIN_PATHS.matches(exchange.getRequest().getPath().pathWithinApplication())
+                || requestLimiter.tryAcquire()) {
+            return chain.filter(exchange);
+        }
+        RequestRejectedEvent.emit(
+                exchange.getRequest().getMethod().name(),
+                exchange.getRequest().getPath().value());
+        exchange.getResponse().setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
+        return exchange.getResponse().setComplete();
+    }
+}
@@ -0,0 +1,20 @@
+package com.reliaquest.server.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Marks when request handling starts; {@link ServerTimingMessageConverter} reports the handler and serialization time
+ * from there as a {@code Server-Timing} header.
+ */
+public class ServerTimingInterceptor implements HandlerInterceptor {
+
+    static final String HANDLER_START = ServerTimingInterceptor.class.getName() + ".HANDLER_START";
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        request.setAttribute(HANDLER_START, System.nanoTime());
+        return true;
+    }
+}
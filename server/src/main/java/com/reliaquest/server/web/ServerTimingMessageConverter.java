@@ -0,0 +1,133 @@
+package com.reliaquest.server.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * Jackson converter that reports {@code handler} and {@code serialize} durations in a {@code Server-Timing} header.
+ * <p>
+ * Headers have to be sent before the body, so the serialized body is held back until serialization finishes. Bodies
+ * larger than {@link #MAX_BUFFERED_BYTES} are streamed as soon as they outgrow the buffer, with only the handler time
+ * reported.
+ */
+public class ServerTimingMessageConverter extends MappingJackson2HttpMessageConverter {
+
+    public static final String SERVER_TIMING = "Server-Timing";
+
+    static final int MAX_BUFFERED_BYTES = 256 * 1024;
+
+    public ServerTimingMessageConverter(ObjectMapper objectMapper) {
+        super(objectMapper);
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage) throws IOException {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        Object handlerStart = attributes == null
+                ? null
+                : attributes.getAttribute(ServerTimingInterceptor.HANDLER_START, RequestAttributes.SCOPE_REQUEST);
+        if (!(handlerStart instanceof Long start)) {
+            super.writeInternal(object, type, outputMessage);
+            return;
+        }
+        long serializeStart = System.nanoTime();
+        DeferredBody body = new DeferredBody(
+                outputMessage,
+                appendMillis(new StringBuilder("handler;dur="), serializeStart - start)
+                        .toString());
+        super.writeInternal(object, type, new HttpOutputMessage() {
+            @Override
+            public OutputStream getBody() {
+                return body;
+            }
+
+            @Override
+            public HttpHeaders getHeaders() {
+                return outputMessage.getHeaders();
+            }
+        });
+        body.finish(appendMillis(new StringBuilder(", serialize;dur="), System.nanoTime() - serializeStart)
+                .toString());
+    }
+
+    /**
+     * Appends the duration in milliseconds with two decimals. Always uses a decimal point: a locale's decimal comma
+     * would split the {@code Server-Timing} metric list.
+     */
+    static StringBuilder appendMillis(StringBuilder builder, long nanos) {
+        long hundredthsOfMillis = nanos / 10_000;
+        builder.append(hundredthsOfMillis / 100).append('.');
+        long fraction = hundredthsOfMillis % 100;
+        if (fraction < 10) {
+            builder.append('0');
+        }
+        return builder.append(fraction);
+    }
+
+    /**
+     * Buffers the body until it is complete or outgrows {@link #MAX_BUFFERED_BYTES}, then sends the timing header
+     * followed by the bytes.
+     */
+    private static final class DeferredBody extends OutputStream {
+
+        private final HttpOutputMessage outputMessage;
+        private final String handlerTiming;
+        private byte[] buffer = new byte[8192];
+        private int count;
+        private OutputStream target;
+
+        private DeferredBody(HttpOutputMessage outputMessage, String handlerTiming) {
+            this.outputMessage = outputMessage;
+            this.handlerTiming = handlerTiming;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[] {(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            if (target == null && count + length > MAX_BUFFERED_BYTES) {
+                commit("");
+            }
+            if (target != null) {
+                target.write(bytes, offset, length);
+                return;
+            }
+            if (count + length > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, count + length));
+            }
+            System.arraycopy(bytes, offset, buffer, count, length);
+            count += length;
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if (target != null) {
+                target.flush();
+            }
+        }
+
+        private void finish(String serializeTiming) throws IOException {
+            if (target == null) {
+                commit(serializeTiming);
+            }
+        }
+
+        private void commit(String serializeTiming) throws IOException {
+            outputMessage.getHeaders().set(SERVER_TIMING, handlerTiming + serializeTiming);
+            target = outputMessage.getBody();
+            target.write(buffer, 0, count);
+            buffer = null;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.reliaquest.server.web;
+
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive counterpart of {@link ServerTimingInterceptor}. The encoded body is written right after serialization, so
+ * the {@code handler} duration reported here includes it; there is no separate {@code serialize} entry.
+ */
+public class ServerTimingWebFilter implements WebFilter {
+
+    private static final PathPattern API_PATHS = PathPatternParser.defaultInstance.parse("/api/**");
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        if (!API_PATHS.matches(exchange.getRequest().getPath().pathWithinApplication())) {
+            return chain.filter(exchange);
+        }
+        long start = System.nanoTime();
+        exchange.getResponse()
+                .beforeCommit(() -> Mono.fromRunnable(() -> exchange.getResponse()
+                        .getHeaders()
+                        .set(
+                                ServerTimingMessageConverter.SERVER_TIMING,
+                                ServerTimingMessageConverter.appendMillis(
+                                                new StringBuilder("handler;dur="), System.nanoTime() - start)
+                                        .toString())));
+        return chain.filter(exchange);
+    }
+}
@@ -0,0 +1,48 @@
+package com.reliaquest.server.model;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+public class FaultProfileTest {
+
+    private static FaultProfile profile(Map<Integer, Double> errorRates, double truncateRate) {
+        return new FaultProfile(
+                1, List.of(new FaultProfile.FaultRule(null, "/api/**", null, errorRates, truncateRate, null)));
+    }
+
+    @Test
+    void testValidate_AcceptsRatesUpToOneInTotal() {
+        assertDoesNotThrow(() -> profile(Map.of(500, 0.5, 503, 0.25), 0.25).validate());
+        assertDoesNotThrow(() -> profile(Map.of(500, 0.0), 1.0).validate());
+        assertDoesNotThrow(() -> profile(null, 0).validate());
+    }
+
+    @Test
+    void testValidate_RejectsRatesOutsideZeroToOne() {
+        assertThrows(IllegalArgumentException.class, () -> profile(Map.of(500, -0.5, 503, 1.5), 0)
+                .validate());
+        assertThrows(IllegalArgumentException.class, () -> profile(Map.of(500, 0.5, 503, 0.6), 0)
+                .validate());
+        assertThrows(IllegalArgumentException.class, () -> profile(Map.of(500, Double.NaN), 0)
+                .validate());
+        assertThrows(
+                IllegalArgumentException.class, () -> profile(Map.of(), -0.1).validate());
+        assertThrows(IllegalArgumentException.class, () -> profile(Map.of(), Double.NaN)
+                .validate());
+        Map<Integer, Double> nullRate = new HashMap<>();
+        nullRate.put(500, null);
+        assertThrows(IllegalArgumentException.class, () -> profile(nullRate, 0).validate());
+    }
+
+    @Test
+    void testValidate_RejectsNonErrorStatusesAndMissingRules() {
+        assertThrows(IllegalArgumentException.class, () -> profile(Map.of(200, 0.1), 0)
+                .validate());
+        assertThrows(IllegalArgumentException.class, () -> new FaultProfile(1, null).validate());
+    }
+}
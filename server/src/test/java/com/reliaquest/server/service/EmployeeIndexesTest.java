@@ -0,0 +1,86 @@
+package com.reliaquest.server.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import com.reliaquest.server.model.EmployeeQuery;
+import com.reliaquest.server.model.MockEmployee;
+import java.util.UUID;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.Test;
+
+public class EmployeeIndexesTest {
+
+    private static MockEmployee employee(Integer salary, Integer age, String title) {
+        return new MockEmployee(UUID.randomUUID(), "name", salary, age, title, "e");
+    }
+
+    private static EmployeeQuery query(
+            Integer minSalary, Integer maxSalary, Integer minAge, Integer maxAge, String title) {
+        return new EmployeeQuery(null, minSalary, maxSalary, minAge, maxAge, title, null);
+    }
+
+    /**
+     * Sequence i has salary 100 * i, age 20 + i % 10 and title "t" + i % 3; every seventh has neither salary nor age.
+     */
+    private static EmployeeIndexes indexes(int size) {
+        EmployeeIndexes indexes = EmployeeIndexes.empty();
+        for (int i = 0; i < size; i++) {
+            indexes = indexes.add(
+                    i, i % 7 == 0 ? employee(null, null, "T" + i % 3) : employee(100 * i, 20 + i % 10, "t" + i % 3));
+        }
+        return indexes;
+    }
+
+    @Test
+    void testCandidates_NullWithoutIndexedFilter() {
+        assertNull(indexes(10).candidates(new EmployeeQuery("name", null, null, null, null, null, null)));
+    }
+
+    @Test
+    void testCandidates_SalaryRangeIsInclusiveAndSkipsMissingValues() {
+        long[] candidates = indexes(100).candidates(query(1000, 2000, null, null, null));
+
+        assertArrayEquals(LongStream.rangeClosed(10, 20).filter(i -> i % 7 != 0).toArray(), candidates);
+        assertArrayEquals(new long[0], indexes(100).candidates(query(2001, 2099, null, null, null)));
+        assertArrayEquals(new long[0], indexes(100).candidates(query(5000, 1000, null, null, null)));
+    }
+
+    @Test
+    void testCandidates_OpenRangesAndTitlesIgnoringCase() {
+        EmployeeIndexes indexes = indexes(100);
+
+        assertArrayEquals(
+                LongStream.range(95, 100).filter(i -> i % 7 != 0).toArray(),
+                indexes.candidates(query(9500, null, null, null, null)));
+        assertArrayEquals(
+                LongStream.range(0, 100).filter(i -> i % 7 != 0 && i % 10 == 0).toArray(),
+                indexes.candidates(query(null, null, null, 20, null)));
+        assertArrayEquals(
+                LongStream.range(0, 100).filter(i -> i % 3 == 1).toArray(),
+                indexes.candidates(query(null, null, null, null, "T1")));
+        assertArrayEquals(new long[0], indexes.candidates(query(null, null, null, null, "unknown")));
+    }
+
+    @Test
+    void testCandidates_TakesTheMostSelectiveIndex() {
+        EmployeeIndexes indexes = indexes(300);
+
+        // A third of the roster has title t1, but only five salaries fall in range.
+        assertEquals(5, indexes.candidates(query(1500, 1900, null, null, "t1")).length);
+        // Every age from 20 to 29 matches, so the title postings are smaller.
+        assertEquals(100, indexes.candidates(query(null, null, 20, 29, "t1")).length);
+    }
+
+    @Test
+    void testRemove_DropsEntriesAndEmptyPostings() {
+        MockEmployee only = employee(99999, 40, "Solo");
+        EmployeeIndexes indexes = indexes(20).add(20, only).remove(20, only).remove(10, employee(1000, 20, "t1"));
+
+        assertArrayEquals(new long[0], indexes.candidates(query(null, null, null, null, "solo")));
+        assertArrayEquals(new long[0], indexes.candidates(query(99999, 99999, null, null, null)));
+        assertArrayEquals(new long[0], indexes.candidates(query(1000, 1000, null, null, null)));
+        assertNull(indexes.byTitle().get("solo"));
+    }
+}
@@ -0,0 +1,118 @@
+package com.reliaquest.server.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import com.reliaquest.server.model.EmployeeQuery;
+import com.reliaquest.server.model.MockEmployee;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+public class EmployeeSnapshotTest {
+
+    private final VirtualRoster roster = VirtualRoster.of(3, 2_000);
+
+    @Test
+    void testEmployees_SkipDeletedVirtualRowsByPositionAndIteration() {
+        Random random = new Random(17);
+        EmployeeSnapshot snapshot = EmployeeSnapshot.over(roster);
+        List<MockEmployee> expected = new ArrayList<>();
+        for (int row = 0; row < roster.size(); row++) {
+            expected.add(roster.get(row));
+        }
+        MockEmployee created = new MockEmployee(UUID.randomUUID(), "created", 1, 20, "t", "e");
+        snapshot = snapshot.add(created);
+        expected.add(created);
+        // Deletes at both ends and in runs, so liveRow has to skip several deleted rows in a row.
+        List<Integer> deleted = new ArrayList<>(List.of(0, 1, 2, roster.size() - 1, 500, 501, 502, 503));
+        for (int i = 0; i < 200; i++) {
+            deleted.add(random.nextInt(roster.size()));
+        }
+        for (int row : deleted) {
+            snapshot = snapshot.remove(roster.idOf(row));
+            expected.remove(roster.get(row));
+        }
+
+        List<MockEmployee> employees = snapshot.employees();
+        assertEquals(expected.size(), employees.size());
+        for (int index = 0; index < expected.size(); index++) {
+            assertEquals(expected.get(index), employees.get(index), "position " + index);
+        }
+        assertEquals(expected, new ArrayList<>(employees));
+        for (int row : deleted) {
+            assertNull(snapshot.findById(roster.idOf(row)));
+        }
+        assertEquals(roster.get(3), snapshot.findById(roster.idOf(3)));
+        assertEquals(created, snapshot.findById(created.getId()));
+    }
+
+    @Test
+    void testQuery_MatchesBruteForceFilterAfterCreatesAndDeletes() {
+        Random random = new Random(23);
+        List<String> titles = List.of("Engineer", "Manager", "Analyst", "Clerk");
+        EmployeeSnapshot snapshot = EmployeeSnapshot.over(roster);
+        List<UUID> stored = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            MockEmployee employee = new MockEmployee(
+                    UUID.randomUUID(),
+                    roster.get(random.nextInt(roster.size())).getName(),
+                    random.nextInt(10) == 0 ? null : 30000 + random.nextInt(470000),
+                    random.nextInt(10) == 0 ? null : 16 + random.nextInt(55),
+                    random.nextInt(10) == 0 ? null : titles.get(random.nextInt(titles.size())),
+                    "e");
+            snapshot = snapshot.add(employee);
+            stored.add(employee.getId());
+        }
+        for (int i = 0; i < 60; i++) {
+            snapshot = snapshot.remove(
+                    i % 2 == 0
+                            ? stored.get(random.nextInt(stored.size()))
+                            : roster.idOf(random.nextInt(roster.size())));
+        }
+        String[] fragments = {null, "a", "an", "son", "Mc", "zzz", roster.get(5).getName()};
+        List<String> queryTitles = new ArrayList<>(titles);
+        queryTitles.add(null);
+        queryTitles.add("engineer");
+        queryTitles.add("Unknown");
+        queryTitles.add(roster.get(5).getTitle());
+        queryTitles.add(roster.get(9).getTitle().toUpperCase(Locale.ROOT));
+
+        for (int i = 0; i < 300; i++) {
+            Integer minSalary = random.nextInt(3) == 0 ? 30000 + random.nextInt(470000) : null;
+            Integer maxSalary = random.nextInt(3) == 0 ? 30000 + random.nextInt(470000) : null;
+            Integer minAge = random.nextInt(3) == 0 ? 16 + random.nextInt(55) : null;
+            Integer maxAge = random.nextInt(3) == 0 ? 16 + random.nextInt(55) : null;
+            EmployeeQuery query = new EmployeeQuery(
+                    fragments[random.nextInt(fragments.length)],
+                    minSalary,
+                    maxSalary,
+                    minAge,
+                    maxAge,
+                    queryTitles.get(random.nextInt(queryTitles.size())),
+                    null);
+
+            List<MockEmployee> expected =
+                    snapshot.employees().stream().filter(query::matches).toList();
+            assertEquals(expected, snapshot.query(query, Integer.MAX_VALUE), query::toString);
+            int limit = random.nextInt(20);
+            assertEquals(
+                    expected.subList(0, Math.min(limit, expected.size())),
+                    snapshot.query(query, limit),
+                    query::toString);
+        }
+    }
+
+    @Test
+    void testRemove_IsNoOpForUnknownOrAlreadyDeletedIds() {
+        EmployeeSnapshot snapshot = EmployeeSnapshot.over(roster).remove(roster.idOf(10));
+
+        assertSame(snapshot, snapshot.remove(roster.idOf(10)));
+        assertSame(snapshot, snapshot.remove(UUID.randomUUID()));
+        assertSame(snapshot, snapshot.remove(roster.idOf(roster.size())));
+    }
+}
@@ -0,0 +1,72 @@
+package com.reliaquest.server.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.reliaquest.server.model.DeleteMockEmployeeInput;
+import com.reliaquest.server.model.MockEmployee;
+import java.util.List;
+import java.util.UUID;
+import net.datafaker.Faker;
+import org.junit.jupiter.api.Test;
+
+public class MockEmployeeServiceTest {
+
+    private final VirtualRoster roster = VirtualRoster.of(9, 5_000);
+    private final MockEmployeeService service = new MockEmployeeService(new Faker(), List.of(), roster, 1000);
+
+    /**
+     * The last row whose name an earlier row also has; names come from a pool of 1,024, so a roster this size has
+     * namesakes.
+     */
+    private int laterNamesake() {
+        for (int row = roster.size() - 1; row > 0; row--) {
+            String name = roster.get(row).getName();
+            for (int earlier = 0; earlier < row; earlier++) {
+                if (roster.get(earlier).getName().equals(name)) {
+                    return row;
+                }
+            }
+        }
+        throw new AssertionError("no namesakes");
+    }
+
+    private static DeleteMockEmployeeInput byName(String name) {
+        DeleteMockEmployeeInput input = new DeleteMockEmployeeInput();
+        input.setName(name);
+        return input;
+    }
+
+    @Test
+    void testDeleteById_RemovesTheRequestedRowNotANamesake() {
+        int row = laterNamesake();
+        MockEmployee employee = roster.get(row);
+
+        assertEquals(employee, service.deleteById(employee.getId()).orElseThrow());
+
+        assertFalse(service.findById(employee.getId()).isPresent());
+        assertEquals(roster.size() - 1, service.getMockEmployees().size());
+        assertTrue(service.getMockEmployees().stream()
+                .anyMatch(other -> other.getName().equals(employee.getName())));
+        assertFalse(service.deleteById(employee.getId()).isPresent());
+    }
+
+    @Test
+    void testDelete_RemovesNamesakesOneAtATimeInRosterOrder() {
+        String name = roster.get(laterNamesake()).getName();
+        List<UUID> namesakes = service.getMockEmployees().stream()
+                .filter(employee -> employee.getName().equalsIgnoreCase(name))
+                .map(MockEmployee::getId)
+                .toList();
+
+        for (UUID id : namesakes) {
+            assertTrue(service.findById(id).isPresent());
+            assertTrue(service.delete(byName(name.toUpperCase())));
+            assertFalse(service.findById(id).isPresent());
+        }
+        assertFalse(service.delete(byName(name)));
+        assertEquals(
+                roster.size() - namesakes.size(), service.getMockEmployees().size());
+    }
+}
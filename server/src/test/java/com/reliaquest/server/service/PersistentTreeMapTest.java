@@ -0,0 +1,118 @@
+package com.reliaquest.server.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import org.junit.jupiter.api.Test;
+
+public class PersistentTreeMapTest {
+
+    private static <V> List<V> drain(Iterator<V> values) {
+        List<V> drained = new ArrayList<>();
+        values.forEachRemaining(drained::add);
+        return drained;
+    }
+
+    private static void assertBalanced(PersistentTreeMap<?, ?> map) {
+        double bound = 1.44 * Math.log(map.size() + 2) / Math.log(2);
+        assertTrue(map.height() <= bound, () -> "height " + map.height() + " for " + map.size() + " entries");
+    }
+
+    @Test
+    void testPut_AscendingKeysStayBalanced() {
+        PersistentTreeMap<Long, Long> map = PersistentTreeMap.empty();
+        for (long key = 0; key < 1024; key++) {
+            map = map.put(key, key);
+        }
+
+        assertEquals(1024, map.size());
+        assertEquals(11, map.height());
+        for (long key = 0; key < 1024; key += 2) {
+            map = map.remove(key);
+        }
+        assertEquals(512, map.size());
+        assertBalanced(map);
+    }
+
+    @Test
+    void testPutAndRemove_MatchTreeMapAndStayBalanced() {
+        Random random = new Random(11);
+        PersistentTreeMap<Integer, Integer> map = PersistentTreeMap.empty();
+        TreeMap<Integer, Integer> expected = new TreeMap<>();
+        for (int i = 0; i < 5000; i++) {
+            int key = random.nextInt(500);
+            if (random.nextInt(3) == 0) {
+                map = map.remove(key);
+                expected.remove(key);
+            } else {
+                map = map.put(key, i);
+                expected.put(key, i);
+            }
+            assertEquals(expected.size(), map.size());
+            assertEquals(expected.isEmpty(), map.isEmpty());
+            assertBalanced(map);
+        }
+
+        assertEquals(List.copyOf(expected.values()), drain(map.values()));
+        for (Map.Entry<Integer, Integer> entry : expected.entrySet()) {
+            assertEquals(entry.getValue(), map.get(entry.getKey()));
+        }
+    }
+
+    @Test
+    void testValueAtRankAndValuesFrom_MatchTreeMap() {
+        Random random = new Random(5);
+        PersistentTreeMap<Integer, Integer> map = PersistentTreeMap.empty();
+        TreeMap<Integer, Integer> expected = new TreeMap<>();
+        for (int i = 0; i < 300; i++) {
+            int key = random.nextInt(1000) * 2;
+            map = map.put(key, key);
+            expected.put(key, key);
+        }
+        for (int i = 0; i < 100; i++) {
+            int key = random.nextInt(1000) * 2;
+            map = map.remove(key);
+            expected.remove(key);
+        }
+
+        PersistentTreeMap<Integer, Integer> built = map;
+        List<Integer> keys = List.copyOf(expected.keySet());
+        for (int index = 0; index < keys.size(); index++) {
+            assertEquals(keys.get(index), built.valueAt(index));
+        }
+        assertThrows(IndexOutOfBoundsException.class, () -> built.valueAt(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> built.valueAt(keys.size()));
+        for (int key = -1; key <= 2001; key++) {
+            assertEquals(expected.headMap(key, true).size(), built.rank(key), "rank of " + key);
+            assertEquals(
+                    List.copyOf(expected.tailMap(key, true).values()), drain(built.valuesFrom(key)), "from " + key);
+        }
+    }
+
+    @Test
+    void testUpdates_LeavePreviousVersionUnchanged() {
+        PersistentTreeMap<String, String> before = PersistentTreeMap.<String, String>empty()
+                .put("b", "b")
+                .put("a", "a")
+                .put("c", "c");
+
+        PersistentTreeMap<String, String> after =
+                before.put("b", "B").remove("a").put("d", "d");
+
+        assertEquals(List.of("a", "b", "c"), drain(before.values()));
+        assertEquals(List.of("B", "c", "d"), drain(after.values()));
+        assertNull(after.get("a"));
+        assertSame(after, after.remove("missing"));
+        assertFalse(after.isEmpty());
+    }
+}
@@ -0,0 +1,82 @@
+package com.reliaquest.server.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+public class VirtualRosterTest {
+
+    private final VirtualRoster roster = VirtualRoster.of(42, 100_000);
+
+    @Test
+    void testIndexOf_InvertsIdOf() {
+        Set<UUID> ids = new HashSet<>();
+        for (int index = 0; index < roster.size(); index++) {
+            UUID id = roster.idOf(index);
+            assertEquals(index, roster.indexOf(id));
+            assertEquals(8, id.version());
+            assertEquals(2, id.variant());
+            ids.add(id);
+        }
+        assertEquals(roster.size(), ids.size());
+        VirtualRoster largest = VirtualRoster.of(42, Integer.MAX_VALUE);
+        assertEquals(Integer.MAX_VALUE - 1, largest.indexOf(largest.idOf(Integer.MAX_VALUE - 1)));
+    }
+
+    @Test
+    void testIndexOf_RejectsForeignIds() {
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(-1, roster.indexOf(UUID.randomUUID()));
+        }
+        assertEquals(-1, roster.indexOf(roster.idOf(roster.size())));
+        assertEquals(-1, VirtualRoster.of(43, roster.size()).indexOf(roster.idOf(0)));
+        assertEquals(-1, VirtualRoster.empty().indexOf(roster.idOf(0)));
+        UUID id = roster.idOf(7);
+        assertEquals(
+                -1, roster.indexOf(new UUID(id.getMostSignificantBits(), id.getLeastSignificantBits() ^ (1L << 62))));
+    }
+
+    @Test
+    void testGet_AgesAndSalariesMatchTheStoredRosterRanges() {
+        int minAge = Integer.MAX_VALUE, maxAge = Integer.MIN_VALUE, minSalary = Integer.MAX_VALUE, maxSalary = 0;
+        for (int index = 0; index < roster.size(); index++) {
+            MockEmployee employee = roster.get(index);
+            minAge = Math.min(minAge, employee.getAge());
+            maxAge = Math.max(maxAge, employee.getAge());
+            minSalary = Math.min(minSalary, employee.getSalary());
+            maxSalary = Math.max(maxSalary, employee.getSalary());
+        }
+        // Faker's numberBetween excludes the upper bound: ages 16 to 69, salaries 30000 to 499999.
+        assertEquals(16, minAge);
+        assertEquals(69, maxAge);
+        assertTrue(minSalary >= 30000 && maxSalary <= 499999);
+    }
+
+    @Test
+    void testTitlesEqualTo_MatchesTitlePositionIgnoringCase() {
+        String title = roster.get(11).getTitle();
+        BitSet positions = roster.titlesEqualTo(title.toUpperCase(Locale.ROOT));
+
+        for (int index = 0; index < 10_000; index++) {
+            assertEquals(
+                    roster.get(index).getTitle().equalsIgnoreCase(title), positions.get(roster.titlePosition(index)));
+        }
+        assertTrue(roster.titlesEqualTo("no such title").isEmpty());
+    }
+
+    @Test
+    void testGet_IsDeterministicPerSeedAndIndex() {
+        assertEquals(roster.get(123), VirtualRoster.of(42, 200).get(123));
+        assertEquals(roster.idOf(123), roster.get(123).getId());
+        assertNotEquals(
+                roster.get(123).getId(), VirtualRoster.of(43, 200).get(123).getId());
+    }
+}
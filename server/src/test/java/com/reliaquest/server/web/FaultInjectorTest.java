@@ -0,0 +1,51 @@
+package com.reliaquest.server.web;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.reliaquest.server.model.FaultProfile;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+public class FaultInjectorTest {
+
+    private final FaultProfile profile = new FaultProfile(
+            42,
+            List.of(
+                    new FaultProfile.FaultRule("GET", "/api/v1/employee", null, Map.of(500, 0.5), 0, null),
+                    new FaultProfile.FaultRule(null, "/api/v1/employee/**", null, Map.of(503, 0.5), 0.1, null)));
+
+    @Test
+    void testDecide_RuleSequenceIsNotShiftedByOtherRules() {
+        FaultInjector injector = new FaultInjector();
+        injector.setProfile(profile);
+        List<FaultInjector.Decision> alone = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            alone.add(injector.decide("GET", "/api/v1/employee"));
+        }
+
+        injector.setProfile(profile);
+        List<FaultInjector.Decision> interleaved = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            for (int j = 0; j < i % 3; j++) {
+                injector.decide("DELETE", "/api/v1/employee/" + j);
+            }
+            interleaved.add(injector.decide("GET", "/api/v1/employee"));
+        }
+
+        assertEquals(alone, interleaved);
+        assertTrue(alone.stream().anyMatch(decision -> decision.status() == 500));
+        assertTrue(alone.stream().anyMatch(decision -> decision.status() == 0));
+    }
+
+    @Test
+    void testDecide_UnmatchedRequestsGetNoFault() {
+        FaultInjector injector = new FaultInjector();
+        injector.setProfile(profile);
+
+        assertTrue(injector.decide("GET", "/admin/fault-profile").isNone());
+        assertTrue(injector.decide("POST", "/api/v2/employee").isNone());
+    }
+}
@@ -0,0 +1,64 @@
+package com.reliaquest.server.web;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.Locale;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.MockHttpOutputMessage;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+public class ServerTimingMessageConverterTest {
+
+    private final Locale defaultLocale = Locale.getDefault();
+
+    @AfterEach
+    void tearDown() {
+        Locale.setDefault(defaultLocale);
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void testAppendMillis_TwoDecimals() {
+        assertEquals(
+                "0.00",
+                ServerTimingMessageConverter.appendMillis(new StringBuilder(), 9_999)
+                        .toString());
+        assertEquals(
+                "0.05",
+                ServerTimingMessageConverter.appendMillis(new StringBuilder(), 50_000)
+                        .toString());
+        assertEquals(
+                "1.23",
+                ServerTimingMessageConverter.appendMillis(new StringBuilder(), 1_234_567)
+                        .toString());
+        assertEquals(
+                "1500.10",
+                ServerTimingMessageConverter.appendMillis(new StringBuilder(), 1_500_100_000)
+                        .toString());
+    }
+
+    @Test
+    void testWrite_UsesDecimalPointUnderDecimalCommaLocale() throws Exception {
+        Locale.setDefault(Locale.GERMANY);
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAttribute(ServerTimingInterceptor.HANDLER_START, System.nanoTime() - 1_234_567);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+
+        new ServerTimingMessageConverter(new ObjectMapper())
+                .write(Map.of("data", "x"), MediaType.APPLICATION_JSON, output);
+
+        String timing = output.getHeaders().getFirst(ServerTimingMessageConverter.SERVER_TIMING);
+        assertTrue(
+                timing.matches("handler;dur=\\d+\\.\\d{2}, serialize;dur=\\d+\\.\\d{2}"),
+                () -> "Server-Timing: " + timing);
+        assertEquals("{\"data\":\"x\"}", output.getBodyAsString());
+    }
+}